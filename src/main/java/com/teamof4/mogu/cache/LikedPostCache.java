@@ -0,0 +1,42 @@
+package com.teamof4.mogu.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamof4.mogu.repository.LikeRepository;
+import com.teamof4.mogu.search.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 유저별 좋아요 누른 게시글 ID. 리스트와 상세 응답의 좋아요 여부를 쿼리 없이 덧씌우기 위해 사용한다.
+ */
+@Component
+public class LikedPostCache {
+
+    private final LikeRepository likeRepository;
+    private final Cache<Long, Set<Long>> cache;
+
+    public LikedPostCache(LikeRepository likeRepository,
+                          @Value("${mogu.liked-post-cache.max-size:10000}") long maxSize,
+                          @Value("${mogu.liked-post-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.likeRepository = likeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Set<Long> getLikedPostIds(Long userId) {
+        return cache.get(userId, id -> Set.copyOf(likeRepository.findAllLikedPostIds(id)));
+    }
+
+    /**
+     * 좋아요를 추가/취소하면 호출한다. 커밋 전에 읽기 시작한 목록은 커밋 후 무효화될 때까지 기다렸다가 지워진다.
+     */
+    public void likeChanged(Long userId) {
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+}
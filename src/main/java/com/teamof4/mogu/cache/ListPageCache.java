@@ -0,0 +1,113 @@
+package com.teamof4.mogu.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 앞쪽 리스트 페이지 중 유저와 상관없는 부분(게시글 목록과 전체 개수)을 카테고리, 정렬 방식, 페이지별로 캐시한다.
+ * 좋아요 여부는 호출하는 쪽에서 덧씌운다.
+ *
+ * 카테고리 버전이 바뀌면 다시 만든다. 조회수는 버전을 올리지 않으므로 TTL 이 지나야 반영된다.
+ * 같은 페이지를 동시에 다시 만들어야 하면 한 번의 조회로 합친다.
+ */
+@Component
+public class ListPageCache {
+
+    private final PostVersionRegistry postVersionRegistry;
+    private final int maxCachedPages;
+    private final Cache<Key, Cached> cache;
+    private final SingleFlight<Map.Entry<Key, Long>, Slice<?>> singleFlight;
+
+    public ListPageCache(PostVersionRegistry postVersionRegistry,
+                         @Value("${mogu.list-page-cache.max-cached-pages:5}") int maxCachedPages,
+                         @Value("${mogu.list-page-cache.max-size:1000}") long maxSize,
+                         @Value("${mogu.list-page-cache.ttl-seconds:30}") long ttlSeconds,
+                         @Value("${mogu.single-flight.timeout-ms:3000}") long loadTimeoutMillis) {
+        this.postVersionRegistry = postVersionRegistry;
+        this.maxCachedPages = maxCachedPages;
+        this.singleFlight = new SingleFlight<>(loadTimeoutMillis);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 앞쪽 maxCachedPages 페이지만 캐시하고, 그 뒤 페이지는 매번 loader 로 조회한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Page<T> getPage(Class<T> type, Long categoryId, String mode, Pageable pageable,
+                               Supplier<Page<T>> loader) {
+        if (pageable.getPageNumber() >= maxCachedPages) {
+            return loader.get();
+        }
+
+        return (Page<T>) get(new Key(type, categoryId, mode, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString()), loader);
+    }
+
+    /**
+     * 커서 기반 리스트는 첫 페이지(빈 커서)만 캐시한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Slice<T> getFirstSlice(Class<T> type, Long categoryId, String mode, int size,
+                                      Supplier<Slice<T>> loader) {
+        return (Slice<T>) get(new Key(type, categoryId, "cursor:" + mode, 0, size, ""), loader);
+    }
+
+    private Slice<?> get(Key key, Supplier<? extends Slice<?>> loader) {
+        long version = postVersionRegistry.getCategoryVersion(key.categoryId);
+
+        Slice<?> cached = getIfCurrent(key, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        return singleFlight.run(Map.entry(key, version), () -> {
+            // 앞선 조회가 방금 끝나 저장된 경우
+            Slice<?> stored = getIfCurrent(key, version);
+            if (stored != null) {
+                return stored;
+            }
+
+            Slice<?> slice = loader.get();
+            cache.put(key, new Cached(slice, version));
+            return slice;
+        });
+    }
+
+    private Slice<?> getIfCurrent(Key key, long version) {
+        Cached cached = cache.getIfPresent(key);
+        return cached != null && cached.version == version ? cached.slice : null;
+    }
+
+    @RequiredArgsConstructor
+    private static class Cached {
+
+        private final Slice<?> slice;
+        private final long version;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+
+        private final Class<?> type;
+        private final Long categoryId;
+        private final String mode;
+        private final int page;
+        private final int size;
+        private final String sort;
+    }
+}
@@ -0,0 +1,103 @@
+package com.teamof4.mogu.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamof4.mogu.service.ViewCountService;
+import com.teamof4.mogu.service.ViewCountService.ViewMark;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 응답 중 유저와 상관없는 부분(게시글, 프로젝트/스터디, 댓글)을 게시글 ID와 버전으로 캐시한다.
+ * 좋아요 여부와 최신 조회수는 호출하는 쪽에서 덧씌운다.
+ *
+ * 게시글이 변경되면 {@link PostVersionRegistry} 가 커밋 후 버전을 올린다. 변경 전 데이터로 만든 응답이
+ * 늦게 저장되더라도 이전 버전으로 저장되므로 다음 조회에서 다시 만든다.
+ * 인기 게시글의 캐시가 만료되었을 때 동시에 들어온 조회는 같은 버전끼리 한 번의 조회로 합친다.
+ */
+@Component
+public class PostDetailCache {
+
+    private final ViewCountService viewCountService;
+    private final PostVersionRegistry postVersionRegistry;
+    private final Cache<Key, Cached<?>> cache;
+    private final SingleFlight<Map.Entry<Key, Long>, Cached<?>> singleFlight;
+
+    public PostDetailCache(ViewCountService viewCountService, PostVersionRegistry postVersionRegistry,
+                           @Value("${mogu.post-detail-cache.max-size:10000}") long maxSize,
+                           @Value("${mogu.post-detail-cache.ttl-seconds:600}") long ttlSeconds,
+                           @Value("${mogu.single-flight.timeout-ms:3000}") long loadTimeoutMillis) {
+        this.viewCountService = viewCountService;
+        this.postVersionRegistry = postVersionRegistry;
+        this.singleFlight = new SingleFlight<>(loadTimeoutMillis);
+        // 작성자 닉네임/프로필 사진 변경은 버전을 올리지 않으므로 TTL 이 지나야 반영된다.
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 같은 버전의 응답이 있으면 그대로, 없으면 loader 로 만들어 저장한다.
+     * replySize 가 null 이면 전체 댓글 트리를 담은 응답이다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Cached<T> get(Class<T> type, Long postId, Integer replySize, Supplier<T> loader) {
+        Key key = new Key(type, postId, replySize);
+        long version = postVersionRegistry.getPostVersion(postId);
+
+        Cached<?> cached = getIfCurrent(key, version);
+        if (cached != null) {
+            return (Cached<T>) cached;
+        }
+
+        return (Cached<T>) singleFlight.run(Map.entry(key, version), () -> {
+            // 앞선 조회가 방금 끝나 저장된 경우
+            Cached<?> stored = getIfCurrent(key, version);
+            if (stored != null) {
+                return stored;
+            }
+
+            Cached<T> loaded = new Cached<>(loader.get(), version, viewCountService.getViewMark(postId));
+            cache.put(key, loaded);
+            return loaded;
+        });
+    }
+
+    private Cached<?> getIfCurrent(Key key, long version) {
+        Cached<?> cached = cache.getIfPresent(key);
+        return cached != null && cached.version == version ? cached : null;
+    }
+
+    @Getter
+    public static class Cached<T> {
+
+        private final T value;
+        private final long version;
+
+        // 응답을 만들 때 이미 DB 조회수에 반영되어 있던 조회수
+        private final ViewMark viewMark;
+
+        private Cached(T value, long version, ViewMark viewMark) {
+            this.value = value;
+            this.version = version;
+            this.viewMark = viewMark;
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+
+        private final Class<?> type;
+        private final Long postId;
+        private final Integer replySize;
+    }
+}
@@ -0,0 +1,113 @@
+package com.teamof4.mogu.cache;
+
+import com.teamof4.mogu.search.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글별, 카테고리별 변경 버전. 게시글 상세 캐시와 ETag 에서 사용한다.
+ * 버전은 메모리에만 있으므로 ETag 에는 서버 시작 시각을 함께 넣어 재시작 전 ETag 와 겹치지 않게 한다.
+ *
+ * 게시글 버전은 최근에 변경된 maxPosts 개만 유지한다. 가장 오래전에 변경된 게시글부터 지우고,
+ * 지운 버전을 floor 로 올려 기록이 없는 게시글은 floor 버전으로 읽는다.
+ * 지워진 게시글이 0 버전으로 돌아가 변경 전의 ETag, 캐시와 일치하는 일을 막는다.
+ * 카테고리는 수가 적으므로 제한하지 않는다.
+ */
+@Component
+public class PostVersionRegistry {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final long maxStalenessMillis;
+    private final int maxPosts;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> postVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> categoryVersions = new ConcurrentHashMap<>();
+
+    // 변경된 순서. 버전을 올리는 쪽에서만 synchronized 로 사용한다.
+    private final Set<Long> changeOrder = new LinkedHashSet<>();
+    private volatile long floorVersion;
+
+    public PostVersionRegistry(@Value("${mogu.etag.max-staleness-seconds:60}") long maxStalenessSeconds,
+                               @Value("${mogu.post-version.max-posts:100000}") int maxPosts) {
+        this.maxStalenessMillis = maxStalenessSeconds * 1000;
+        this.maxPosts = maxPosts;
+    }
+
+    public long getPostVersion(Long postId) {
+        return postVersions.getOrDefault(postId, floorVersion);
+    }
+
+    public long getCategoryVersion(Long categoryId) {
+        return categoryVersions.getOrDefault(categoryId, 0L);
+    }
+
+    /**
+     * 댓글처럼 게시글 상세에만 보이는 내용이 바뀌면 호출한다.
+     */
+    public void postChanged(Long postId) {
+        AfterCommit.run(() -> putPostVersion(postId));
+    }
+
+    /**
+     * 게시글 등록/수정/삭제, 좋아요처럼 리스트에도 보이는 내용이 바뀌면 호출한다.
+     */
+    public void postChanged(Long postId, Long categoryId) {
+        AfterCommit.run(() -> categoryVersions.put(categoryId, putPostVersion(postId)));
+    }
+
+    /**
+     * 버전을 올리고 maxPosts 를 넘으면 가장 오래전에 변경된 게시글부터 지운다.
+     * 지우기 전에 floor 를 먼저 올려 조회하는 쪽이 지워진 게시글의 이전 버전보다 낮은 버전을 읽지 않게 한다.
+     */
+    private synchronized long putPostVersion(Long postId) {
+        long version = sequence.incrementAndGet();
+        postVersions.put(postId, version);
+        changeOrder.remove(postId);
+        changeOrder.add(postId);
+
+        Iterator<Long> eldest = changeOrder.iterator();
+        while (changeOrder.size() > maxPosts) {
+            Long evictedId = eldest.next();
+            floorVersion = postVersions.get(evictedId);
+            postVersions.remove(evictedId);
+            eldest.remove();
+        }
+        return version;
+    }
+
+    int getPostCount() {
+        return postVersions.size();
+    }
+
+    public String getPostEtag(Long postId, Long userId) {
+        return getPostEtag(postId, getPostVersion(postId), userId);
+    }
+
+    /**
+     * 캐시된 응답의 버전으로 만든 ETag. 응답 본문과 ETag 가 항상 같은 버전에서 나온다.
+     */
+    public String getPostEtag(Long postId, long version, Long userId) {
+        return etag("p" + postId + "." + version, userId);
+    }
+
+    public String getCategoryEtag(Long categoryId, Long userId) {
+        return etag("c" + categoryId + "." + getCategoryVersion(categoryId), userId);
+    }
+
+    /**
+     * 좋아요 여부가 유저마다 다르므로 유저 ID를 넣는다.
+     * 조회수와 작성자 정보는 버전을 올리지 않으므로 일정 시간마다 ETag 가 바뀌게 해 최대 지연 시간을 제한한다.
+     */
+    private String etag(String version, Long userId) {
+        long period = System.currentTimeMillis() / maxStalenessMillis;
+        return "\"" + epoch + "-" + version + "-" + period + "-u" + (userId == null ? 0 : userId) + "\"";
+    }
+}
@@ -0,0 +1,137 @@
+package com.teamof4.mogu.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamof4.mogu.entity.Category;
+import com.teamof4.mogu.entity.Skill;
+import com.teamof4.mogu.repository.CategoryRepository;
+import com.teamof4.mogu.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리/기술 스택처럼 거의 바뀌지 않는 기준 데이터의 메모리 스냅샷.
+ * 요청마다 DB를 조회하지 않도록 ID/이름 조회용 맵과 미리 직렬화한 JSON 을 함께 보관한다.
+ * 스냅샷은 생성 후 변경하지 않고, 갱신 시 통째로 교체한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final CategoryRepository categoryRepository;
+    private final SkillRepository skillRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public Optional<Category> findCategory(Long categoryId) {
+        return Optional.ofNullable(snapshot().categoriesById.get(categoryId));
+    }
+
+    public Optional<Category> findCategoryByName(String categoryName) {
+        return Optional.ofNullable(snapshot().categoriesByName.get(categoryName));
+    }
+
+    public Optional<Skill> findSkillByName(String skillName) {
+        return Optional.ofNullable(snapshot().skillsByName.get(skillName));
+    }
+
+    public List<Category> getCategories() {
+        return snapshot().categories;
+    }
+
+    public List<Skill> getSkills() {
+        return snapshot().skills;
+    }
+
+    public SerializedJson getCategoryJson() {
+        return snapshot().categoryJson;
+    }
+
+    public SerializedJson getSkillJson() {
+        return snapshot().skillJson;
+    }
+
+    /**
+     * DB를 직접 수정한 경우를 위해 주기적으로 다시 읽는다.
+     */
+    @Scheduled(initialDelayString = "${mogu.reference-data.refresh-interval-ms:600000}",
+            fixedDelayString = "${mogu.reference-data.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            snapshot = load();
+        } catch (RuntimeException exception) {
+            if (snapshot == null) {
+                throw exception;
+            }
+            log.warn("기준 데이터 갱신에 실패했습니다. 기존 데이터를 계속 사용합니다.", exception);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        List<Category> categories = categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+        List<Skill> skills = skillRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+
+        return new Snapshot(List.copyOf(categories), List.copyOf(skills),
+                serialize(categories), serialize(skills));
+    }
+
+    private SerializedJson serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return SerializedJson.of(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("기준 데이터를 JSON 으로 변환하지 못했습니다.", exception);
+        }
+    }
+
+    private static class Snapshot {
+
+        private final List<Category> categories;
+        private final List<Skill> skills;
+        private final Map<Long, Category> categoriesById;
+        private final Map<String, Category> categoriesByName;
+        private final Map<String, Skill> skillsByName;
+        private final SerializedJson categoryJson;
+        private final SerializedJson skillJson;
+
+        private Snapshot(List<Category> categories, List<Skill> skills,
+                         SerializedJson categoryJson, SerializedJson skillJson) {
+            this.categories = categories;
+            this.skills = skills;
+            this.categoriesById = categories.stream()
+                    .collect(Collectors.toUnmodifiableMap(Category::getId, Function.identity()));
+            this.categoriesByName = categories.stream()
+                    .collect(Collectors.toUnmodifiableMap(Category::getCategoryName, Function.identity()));
+            this.skillsByName = skills.stream()
+                    .collect(Collectors.toUnmodifiableMap(Skill::getSkillName, Function.identity()));
+            this.categoryJson = categoryJson;
+            this.skillJson = skillJson;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.teamof4.mogu.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 자주 조회되는 상세/리스트 응답을 직렬화한 JSON 바이트로 보관한다. 적중하면 Jackson 직렬화 없이 바이트를 그대로 응답한다.
+ *
+ * 항목은 만들 때의 ETag 와 함께 저장하고, 요청의 ETag 가 다르면 다시 만든다.
+ * ETag 에는 게시글/카테고리 버전이 들어가므로 게시글을 변경하는 쪽에서 버전을 올리면 무효화된다.
+ * 같은 키와 ETag 로 동시에 다시 만들어야 하면 한 번만 만든다.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, SerializedJson> cache;
+    private final SingleFlight<Map.Entry<String, String>, SerializedJson> singleFlight;
+
+    public ResponseBodyCache(ObjectMapper objectMapper,
+                             @Value("${mogu.response-body-cache.max-size:2000}") long maxSize,
+                             @Value("${mogu.response-body-cache.ttl-seconds:600}") long ttlSeconds,
+                             @Value("${mogu.single-flight.timeout-ms:3000}") long loadTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.singleFlight = new SingleFlight<>(loadTimeoutMillis);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * etag 는 loader 를 호출하기 전에 구해야 한다. 만드는 중에 버전이 바뀌면 이전 ETag 로 저장되어 다음 요청에서 다시 만든다.
+     */
+    public SerializedJson get(String key, String etag, Supplier<?> loader) {
+        SerializedJson cached = getIfCurrent(key, etag);
+        if (cached != null) {
+            return cached;
+        }
+
+        return singleFlight.run(Map.entry(key, etag), () -> {
+            // 앞선 요청이 방금 만들어 저장한 경우
+            SerializedJson stored = getIfCurrent(key, etag);
+            if (stored != null) {
+                return stored;
+            }
+
+            SerializedJson json = SerializedJson.of(serialize(loader.get()), etag);
+            cache.put(key, json);
+            return json;
+        });
+    }
+
+    private SerializedJson getIfCurrent(String key, String etag) {
+        SerializedJson cached = cache.getIfPresent(key);
+        return cached != null && cached.getEtag().equals(etag) ? cached : null;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("응답을 JSON 으로 변환하지 못했습니다.", exception);
+        }
+    }
+}
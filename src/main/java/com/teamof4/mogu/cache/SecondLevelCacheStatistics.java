@@ -0,0 +1,53 @@
+package com.teamof4.mogu.cache;
+
+import com.teamof4.mogu.dto.CacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 하이버네이트 2차 캐시 영역별 적중/실패 횟수. 영역 크기와 만료 시간을 조정할 때 참고한다.
+ * hibernate.generate_statistics 가 꺼져 있으면 모든 값이 0 이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheStatistics {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheStatsDto> getRegionStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toDto(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private CacheStatsDto toDto(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return null;
+        }
+
+        long hitCount = regionStatistics.getHitCount();
+        long missCount = regionStatistics.getMissCount();
+        long requestCount = hitCount + missCount;
+
+        return CacheStatsDto.builder()
+                .region(region)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .putCount(regionStatistics.getPutCount())
+                .elementCount(regionStatistics.getElementCountInMemory())
+                .hitRatio(requestCount == 0 ? 0 : (double) hitCount / requestCount).build();
+    }
+}
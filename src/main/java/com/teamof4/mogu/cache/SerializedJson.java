@@ -0,0 +1,50 @@
+package com.teamof4.mogu.cache;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화한 JSON 과 ETag. 본문이 충분히 크면 gzip 으로 미리 압축한 본문도 함께 보관한다.
+ * 생성 후 변경하지 않으므로 여러 요청이 그대로 응답 본문으로 사용한다.
+ */
+@Getter
+public class SerializedJson {
+
+    private static final int MIN_GZIP_SIZE = 1024;
+
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String etag;
+
+    private SerializedJson(byte[] body, byte[] gzipBody, String etag) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.etag = etag;
+    }
+
+    public static SerializedJson of(byte[] body, String etag) {
+        return new SerializedJson(body, gzip(body), etag);
+    }
+
+    /**
+     * 압축해도 작아지지 않는 본문은 null 을 반환해 원본을 그대로 보내게 한다.
+     */
+    private static byte[] gzip(byte[] body) {
+        if (body.length < MIN_GZIP_SIZE) {
+            return null;
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        } catch (IOException exception) {
+            throw new IllegalStateException("JSON 을 gzip 으로 압축하지 못했습니다.", exception);
+        }
+
+        byte[] compressed = output.toByteArray();
+        return compressed.length < body.length ? compressed : null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.teamof4.mogu.cache;
+
+import com.teamof4.mogu.exception.cache.LoadTimeoutException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 캐시 미스를 하나의 조회로 합친다.
+ * 먼저 들어온 요청이 직접 loader 를 실행하고, 나머지는 그 결과나 예외를 timeout 동안 기다렸다가 함께 받는다.
+ * 조회가 끝나면 키를 지우므로 결과를 보관하지는 않는다. 보관은 이 클래스를 사용하는 캐시가 한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public SingleFlight(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public V run(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error exception) {
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            throw new LoadTimeoutException("요청이 많아 데이터를 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new LoadTimeoutException("데이터를 기다리는 중에 요청이 중단되었습니다.");
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -62,4 +62,9 @@ public class ResponseConstants {
             new ResponseEntity<>("탈퇴한 유저입니다.", HttpStatus.NOT_FOUND);
     public static final ResponseEntity<String> WRONG_EMAIL_OR_NAME =
             new ResponseEntity<>("이메일 혹은 이름을 잘못 입력했습니다.", HttpStatus.NOT_FOUND);
+    public static final ResponseEntity<String> INVALID_CURSOR =
+            new ResponseEntity<>("올바르지 않은 커서입니다.", HttpStatus.BAD_REQUEST);
+
+    public static final ResponseEntity<String> LOAD_TIMEOUT =
+            new ResponseEntity<>("요청이 많아 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 }
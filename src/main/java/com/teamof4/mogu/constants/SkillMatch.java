@@ -0,0 +1,8 @@
+package com.teamof4.mogu.constants;
+
+/**
+ * 기술 스택 필터 조건. AND 는 모든 기술 스택을, OR 는 하나 이상의 기술 스택을 사용하는 게시글을 찾는다.
+ */
+public enum SkillMatch {
+    AND, OR
+}
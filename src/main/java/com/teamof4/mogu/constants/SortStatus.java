@@ -1,5 +1,5 @@
 package com.teamof4.mogu.constants;
 
 public enum SortStatus {
-    DEFAULT, LIKES, ALL, OPENED
+    DEFAULT, LIKES, ALL, OPENED, RELEVANCE
 }
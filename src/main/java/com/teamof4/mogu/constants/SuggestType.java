@@ -0,0 +1,5 @@
+package com.teamof4.mogu.constants;
+
+public enum SuggestType {
+    SKILL, TITLE, USER
+}
@@ -1,5 +1,8 @@
 package com.teamof4.mogu.controller;
 
+import com.teamof4.mogu.dto.CacheStatsDto;
+import com.teamof4.mogu.dto.CorrectionDto;
+import com.teamof4.mogu.dto.SuggestDto;
 import com.teamof4.mogu.entity.Category;
 import com.teamof4.mogu.entity.Skill;
 import com.teamof4.mogu.service.CommonService;
@@ -9,7 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,14 +27,36 @@ public class CommonController {
     private final CommonService commonService;
 
     @GetMapping("/category")
-    @ApiOperation(value = "카테고리 리스트 조회")
-    public ResponseEntity<List<Category>> getCategoryList() {
-        return ResponseEntity.ok(commonService.getCategoryList());
+    @ApiOperation(value = "카테고리 리스트 조회", response = Category.class, responseContainer = "List",
+            notes = "미리 직렬화한 JSON 을 ETag 와 함께 출력한다. If-None-Match 가 일치하면 304 를 응답한다.")
+    public ResponseEntity<byte[]> getCategoryList(WebRequest webRequest) {
+        return JsonResponses.of(commonService.getCategoryList(), webRequest);
     }
 
     @GetMapping("/skill")
-    @ApiOperation(value = "스킬 리스트 조회")
-    public ResponseEntity<List<Skill>> getSkillList() {
-        return ResponseEntity.ok(commonService.getSkillList());
+    @ApiOperation(value = "스킬 리스트 조회", response = Skill.class, responseContainer = "List",
+            notes = "미리 직렬화한 JSON 을 ETag 와 함께 출력한다. If-None-Match 가 일치하면 304 를 응답한다.")
+    public ResponseEntity<byte[]> getSkillList(WebRequest webRequest) {
+        return JsonResponses.of(commonService.getSkillList(), webRequest);
+    }
+
+    @GetMapping("/suggest")
+    @ApiOperation(value = "기술 스택/프로젝트·스터디 제목 자동완성", notes = "입력한 접두어(초성 포함)로 시작하는 기술 스택 이름, 인기 게시글 제목, 회원 닉네임을 인기도 순으로 최대 10개 출력한다. 결과가 없으면 오타를 교정한 검색어로 다시 찾는다.")
+    public ResponseEntity<List<SuggestDto>> getSuggestions(@RequestParam String keyword,
+                                                           @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(commonService.getSuggestions(keyword, size));
+    }
+
+    @GetMapping("/correct")
+    @ApiOperation(value = "검색어 오타 교정", notes = "기술 스택 이름과 게시글 제목 단어 중 입력한 검색어와 편집 거리가 가까운 단어를 거리, 빈도 순으로 최대 10개 출력한다.")
+    public ResponseEntity<List<CorrectionDto>> getCorrections(@RequestParam String keyword,
+                                                              @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(commonService.getCorrections(keyword, size));
+    }
+
+    @GetMapping("/cache/stats")
+    @ApiOperation(value = "2차 캐시 통계 조회", notes = "엔티티/쿼리 캐시 영역과 검증된 JWT 캐시의 적중, 실패, 저장 횟수와 적중률을 출력한다.")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStatistics() {
+        return ResponseEntity.ok(commonService.getCacheStatistics());
     }
 }
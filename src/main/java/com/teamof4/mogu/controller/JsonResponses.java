@@ -0,0 +1,130 @@
+package com.teamof4.mogu.controller;
+
+import com.teamof4.mogu.cache.SerializedJson;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Locale;
+
+/**
+ * 미리 직렬화한 JSON 을 그대로 응답 본문으로 쓴다. 클라이언트가 gzip 을 받을 수 있으면 미리 압축한 본문을 쓴다.
+ * 압축한 본문은 바이트가 다르므로 ETag 뒤에 -gz 를 붙여 원본과 구분한다.
+ *
+ * 응답 헤더의 ETag 는 실제로 보내는 본문의 것 하나만 둔다. WebRequest.checkNotModified 는 일치하지 않아도
+ * 응답에 ETag 를 쓰고, 스프링은 그 값을 ResponseEntity 의 ETag 보다 우선하므로 If-None-Match 는 직접 비교한다.
+ */
+final class JsonResponses {
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String ANY = "*";
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private JsonResponses() {
+    }
+
+    // GET 요청의 ETag 가 If-None-Match 와 같으면 스프링이 본문 없이 304 로 응답한다.
+    static ResponseEntity<byte[]> of(SerializedJson json, WebRequest webRequest) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (json.getGzipBody() == null) {
+            return response.eTag(json.getEtag()).body(json.getBody());
+        }
+
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.eTag(gzipEtag(json.getEtag()))
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(json.getGzipBody());
+        }
+        return response.eTag(json.getEtag()).body(json.getBody());
+    }
+
+    /**
+     * 응답을 만들기 전에 If-None-Match 와 비교한다. 압축한 본문의 ETag 를 보낸 gzip 클라이언트도 304 로 응답한다.
+     * 일치할 때만 스프링에 넘겨 304 로 응답하고, 일치하지 않으면 응답 헤더를 건드리지 않는다.
+     */
+    static boolean checkNotModified(WebRequest webRequest, String etag) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (etag == null || ifNoneMatch == null) {
+            return false;
+        }
+
+        boolean acceptsGzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String gzipEtag = gzipEtag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = stripWeak(candidate.trim());
+            if (acceptsGzip && tag.equals(stripWeak(gzipEtag))) {
+                return webRequest.checkNotModified(gzipEtag);
+            }
+            if (tag.equals(stripWeak(etag)) || ANY.equals(tag)) {
+                return webRequest.checkNotModified(etag);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 미리 직렬화하지 않은 응답. checkNotModified 가 ETag 를 쓰지 않으므로 여기서 붙인다.
+     */
+    static <T> ResponseEntity<T> ok(T body, String etag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(body);
+    }
+
+    // If-None-Match 는 약한 비교를 한다.
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    static String gzipEtag(String etag) {
+        if (etag.endsWith("\"")) {
+            return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+        }
+        return etag + GZIP_ETAG_SUFFIX;
+    }
+
+    /**
+     * Accept-Encoding 의 q 값을 보고 gzip 을 받을 수 있는지 판단한다. gzip;q=0 은 거부로 본다.
+     * gzip 이 없으면 * 의 q 값을 따른다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        boolean acceptsAny = false;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+
+            if (GZIP.equals(coding) || X_GZIP.equals(coding)) {
+                return qValue(parts) > 0;
+            }
+            if (ANY.equals(coding)) {
+                acceptsAny = qValue(parts) > 0;
+            }
+        }
+        return acceptsAny;
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
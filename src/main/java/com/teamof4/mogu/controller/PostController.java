@@ -1,8 +1,10 @@
 package com.teamof4.mogu.controller;
 
+import com.teamof4.mogu.dto.CursorDto.SliceResponse;
 import com.teamof4.mogu.dto.LikeDto;
 import com.teamof4.mogu.dto.PostDto;
 import com.teamof4.mogu.dto.PostDto.SaveRequest;
+import com.teamof4.mogu.dto.ReplyDto;
 import com.teamof4.mogu.exception.user.UserNotLoginedException;
 import com.teamof4.mogu.service.PostService;
 import io.swagger.annotations.Api;
@@ -15,6 +17,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 
@@ -35,26 +38,102 @@ public class PostController {
      * 위의 카테고리 아이디로 조회할 때만 사용한다.
      */
     @GetMapping("/list/{categoryId}")
-    @ApiOperation(value = "커뮤니티 게시글 전체 조회(id 기준)", notes = "카테고리 별, id 기준 내림차 순으로 출력한다.")
-    public ResponseEntity<Page<PostDto.Response>> getPostList(@PathVariable Long categoryId,
-                                                              @AuthenticationPrincipal Long userId,
-                                                              @PageableDefault Pageable pageable) {
-        return ResponseEntity.ok(postService.getPostList(categoryId, pageable, userId, DEFAULT));
+    @ApiOperation(value = "커뮤니티 게시글 전체 조회(id 기준)", response = SummaryResponse.class, responseContainer = "List",
+            notes = "카테고리 별, id 기준 내림차 순으로 출력한다.")
+    public ResponseEntity<?> getPostList(@PathVariable Long categoryId,
+                                         @AuthenticationPrincipal Long userId,
+                                         @PageableDefault Pageable pageable,
+                                         WebRequest webRequest) {
+        String etag = postService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        if (userId == null && pageable.getPageNumber() == 0) {
+            return JsonResponses.of(postService.getPostListJson(categoryId, pageable, DEFAULT), webRequest);
+        }
+        return JsonResponses.ok(postService.getPostList(categoryId, pageable, userId, DEFAULT), etag);
+    }
+
+    @GetMapping(value = "/list/{categoryId}", params = "cursor")
+    @ApiOperation(value = "커뮤니티 게시글 전체 조회(커서 기준)", notes = "카테고리 별, 전달받은 커서 이후의 게시글을 id 기준 내림차 순으로 출력한다. 첫 페이지는 빈 커서로 요청한다.")
+    public ResponseEntity<SliceResponse<SummaryResponse>> getPostListByCursor(@PathVariable Long categoryId,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @AuthenticationPrincipal Long userId,
+                                                                              @PageableDefault Pageable pageable,
+                                                                              WebRequest webRequest) {
+        String etag = postService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        return JsonResponses.ok(postService.getPostListByCursor(categoryId, cursor, pageable.getPageSize(), userId), etag);
     }
 
     @GetMapping("/list/likes/{categoryId}")
-    @ApiOperation(value = "커뮤니티 게시글 전체 조회(좋아요 수 기준)", notes = "카테고리 별, 좋아요 순 기준 내림차 순으로 출력한다.")
-    public ResponseEntity<Page<PostDto.Response>> getLikesPostList(@PathVariable Long categoryId,
-                                                                   @AuthenticationPrincipal Long userId,
-                                                                   @PageableDefault Pageable pageable) {
-        return ResponseEntity.ok(postService.getPostList(categoryId, pageable, userId, LIKES));
+    @ApiOperation(value = "커뮤니티 게시글 전체 조회(좋아요 수 기준)", response = SummaryResponse.class, responseContainer = "List",
+            notes = "카테고리 별, 좋아요 순 기준 내림차 순으로 출력한다.")
+    public ResponseEntity<?> getLikesPostList(@PathVariable Long categoryId,
+                                              @AuthenticationPrincipal Long userId,
+                                              @PageableDefault Pageable pageable,
+                                              WebRequest webRequest) {
+        String etag = postService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        if (userId == null && pageable.getPageNumber() == 0) {
+            return JsonResponses.of(postService.getPostListJson(categoryId, pageable, LIKES), webRequest);
+        }
+        return JsonResponses.ok(postService.getPostList(categoryId, pageable, userId, LIKES), etag);
+    }
+
+    @GetMapping("/search/{categoryId}")
+    @ApiOperation(value = "커뮤니티 게시글 제목/내용으로 검색", notes = "카테고리 별 / 관련도 순(같으면 최신 순)으로 출력한다.")
+    public ResponseEntity<Page<SummaryResponse>> searchPostList(@PathVariable Long categoryId,
+                                                                @RequestParam String keyword,
+                                                                @AuthenticationPrincipal Long userId,
+                                                                @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(postService.searchPostList(categoryId, keyword, pageable, userId, RELEVANCE));
+    }
+
+    @GetMapping("/search/recent/{categoryId}")
+    @ApiOperation(value = "커뮤니티 게시글 제목/내용으로 검색(최신 순)", notes = "카테고리 별 / id 기준 내림차 순으로 출력한다.")
+    public ResponseEntity<Page<SummaryResponse>> searchRecentPostList(@PathVariable Long categoryId,
+                                                                      @RequestParam String keyword,
+                                                                      @AuthenticationPrincipal Long userId,
+                                                                      @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(postService.searchPostList(categoryId, keyword, pageable, userId, DEFAULT));
     }
 
     @GetMapping("/post/{id}")
-    @ApiOperation(value = "커뮤니티 게시글 상세 조회")
-    public ResponseEntity<PostDto.Response> getPost(@PathVariable Long id,
-                                                    @AuthenticationPrincipal Long currentUserId) {
-        return ResponseEntity.ok(postService.getPostDetails(id, currentUserId));
+    @ApiOperation(value = "커뮤니티 게시글 상세 조회", response = PostDto.Response.class)
+    public ResponseEntity<?> getPost(@PathVariable Long id,
+                                     @AuthenticationPrincipal Long currentUserId,
+                                     WebRequest webRequest) {
+        String etag = postService.getPostEtag(id, currentUserId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        if (currentUserId == null) {
+            return JsonResponses.of(postService.getPostDetailsJson(id, null), webRequest);
+        }
+        return JsonResponses.ok(postService.getPostDetails(id, currentUserId), etag);
+    }
+
+    @GetMapping(value = "/post/{id}", params = "replySize")
+    @ApiOperation(value = "커뮤니티 게시글 상세 조회(댓글 첫 페이지만)", response = PostDto.Response.class,
+            notes = "전체 댓글 대신 최상위 댓글 replySize 개와 다음 댓글 페이지 커서를 함께 출력한다. "
+                    + "replySize 는 1 ~ 50 사이로 맞춘다.")
+    public ResponseEntity<?> getPostWithReplyPage(@PathVariable Long id,
+                                                  @RequestParam Integer replySize,
+                                                  @AuthenticationPrincipal Long currentUserId,
+                                                  WebRequest webRequest) {
+        String etag = postService.getPostEtag(id, currentUserId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        if (currentUserId == null) {
+            return JsonResponses.of(postService.getPostDetailsJson(id, replySize), webRequest);
+        }
+        return JsonResponses.ok(postService.getPostDetails(id, currentUserId, replySize), etag);
     }
 
     @PostMapping("/create")
@@ -93,6 +172,22 @@ public class PostController {
         return ResponseEntity.ok(postService.likeProcess(postId, userId));
     }
 
+    @GetMapping("/reply/list/{postId}")
+    @ApiOperation(value = "최상위 댓글 조회(커서 기준)", notes = "작성 순서대로 최상위 댓글과 대댓글 수를 출력한다. 첫 페이지는 빈 커서로 요청한다. size 는 1 ~ 50 사이로 맞춘다.")
+    public ResponseEntity<SliceResponse<ReplyDto.Response>> getReplyList(@PathVariable Long postId,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(postService.getReplyPage(postId, cursor, pageable.getPageSize()));
+    }
+
+    @GetMapping("/reply/children/{replyId}")
+    @ApiOperation(value = "대댓글 조회(커서 기준)", notes = "해당 댓글의 대댓글을 작성 순서대로 출력한다. 첫 페이지는 빈 커서로 요청한다. size 는 1 ~ 50 사이로 맞춘다.")
+    public ResponseEntity<SliceResponse<ReplyDto.Response>> getChildReplyList(@PathVariable Long replyId,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(postService.getChildReplyPage(replyId, cursor, pageable.getPageSize()));
+    }
+
     @PostMapping("/reply/create/super")
     @ApiOperation(value = "최상위 댓글 등록")
     public ResponseEntity<Long> saveSuperReply(@Valid @RequestBody SuperRequest dto,
@@ -1,5 +1,7 @@
 package com.teamof4.mogu.controller;
 
+import com.teamof4.mogu.constants.SkillMatch;
+import com.teamof4.mogu.dto.CursorDto.SliceResponse;
 import com.teamof4.mogu.dto.PostDto.SaveRequest;
 import com.teamof4.mogu.dto.PostDto.UpdateRequest;
 import com.teamof4.mogu.dto.ProjectStudyDto;
@@ -15,9 +17,11 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import java.util.List;
 
 import static com.teamof4.mogu.constants.SortStatus.*;
 
@@ -31,64 +35,172 @@ public class ProjectStudyController {
 
 
     @GetMapping("/search/all/{categoryId}")
-    @ApiOperation(value = "프로젝트 스터디 제목/내용으로 검색", notes = "모집 여부와 상관없이 검색하여 카테고리 별 / 생성일 기준 내림차 순으로 출력한다.")
+    @ApiOperation(value = "프로젝트 스터디 제목/내용으로 검색", notes = "모집 여부와 상관없이 검색하여 카테고리 별 / 관련도 순(같으면 최신 순)으로 출력한다.")
     public ResponseEntity<Page<ProjectStudyDto.Response>> searchAllList(@PathVariable Long categoryId,
                                                                         @RequestParam String keyword,
+                                                                        @RequestParam(required = false) List<Long> skillIds,
+                                                                        @RequestParam(defaultValue = "AND") SkillMatch match,
                                                                         @AuthenticationPrincipal Long userId,
                                                                         @PageableDefault Pageable pageable) {
+        if (skillIds != null && !skillIds.isEmpty()) {
+            return ResponseEntity.ok(projectStudyService.getSearchedListBySkills(categoryId, keyword, skillIds, match, userId, pageable, ALL));
+        }
         return ResponseEntity.ok(projectStudyService.getSearchedList(categoryId, keyword, userId, pageable, ALL));
     }
 
     @GetMapping("/search/opened/{categoryId}")
-    @ApiOperation(value = "프로젝트 스터디 제목/내용으로 검색(모집 중)", notes = "모집 중인 게시글들만 검색하여 카테고리 별 / 생성일 기준 내림차 순으로 출력한다.")
+    @ApiOperation(value = "프로젝트 스터디 제목/내용으로 검색(모집 중)", notes = "모집 중인 게시글들만 검색하여 카테고리 별 / 관련도 순(같으면 최신 순)으로 출력한다.")
     public ResponseEntity<Page<ProjectStudyDto.Response>> searchOpenedList(@PathVariable Long categoryId,
                                                                            @RequestParam String keyword,
+                                                                           @RequestParam(required = false) List<Long> skillIds,
+                                                                           @RequestParam(defaultValue = "AND") SkillMatch match,
                                                                            @AuthenticationPrincipal Long userId,
                                                                            @PageableDefault Pageable pageable) {
+        if (skillIds != null && !skillIds.isEmpty()) {
+            return ResponseEntity.ok(projectStudyService.getSearchedListBySkills(categoryId, keyword, skillIds, match, userId, pageable, OPENED));
+        }
         return ResponseEntity.ok(projectStudyService.getSearchedList(categoryId, keyword, userId, pageable, OPENED));
     }
 
+    @GetMapping("/facets/{categoryId}")
+    @ApiOperation(value = "프로젝트/스터디 필터별 게시글 수", notes = "카테고리 별 지역 / 진행 방식 / 기술 스택 / 모집 여부마다 게시글 수를 출력한다.")
+    public ResponseEntity<ProjectStudyDto.FacetResponse> getFacets(@PathVariable Long categoryId) {
+        return ResponseEntity.ok(projectStudyService.getFacets(categoryId));
+    }
+
     /**
      * 4(SIDE_PROJECT), 5(STUDY)
      * 위의 카테고리 아이디로 조회할 때만 사용한다.
      */
     @GetMapping("/list/all/{categoryId}")
-    @ApiOperation(value = "프로젝트/스터디 게시글 전체 조회", notes = "모집 여부와 상관없이 카테고리 별 / 생성일 기준 내림차 순으로 출력한다.")
-    public ResponseEntity<Page<ProjectStudyDto.Response>> getAllPostList(@PathVariable Long categoryId,
-                                                                         @AuthenticationPrincipal Long userId,
-                                                                         @PageableDefault Pageable pageable) {
-        return ResponseEntity.ok(projectStudyService.getProjectStudyList(categoryId, pageable, userId, ALL));
+    @ApiOperation(value = "프로젝트/스터디 게시글 전체 조회", response = ProjectStudyDto.Response.class, responseContainer = "List",
+            notes = "모집 여부와 상관없이 카테고리 별 / 생성일 기준 내림차 순으로 출력한다. skillIds 를 전달하면 기술 스택으로 거른다(match=AND|OR).")
+    public ResponseEntity<?> getAllPostList(@PathVariable Long categoryId,
+                                            @RequestParam(required = false) List<Long> skillIds,
+                                            @RequestParam(defaultValue = "AND") SkillMatch match,
+                                            @AuthenticationPrincipal Long userId,
+                                            @PageableDefault Pageable pageable,
+                                            WebRequest webRequest) {
+        String etag = projectStudyService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        if (skillIds != null && !skillIds.isEmpty()) {
+            return JsonResponses.ok(projectStudyService.getProjectStudyListBySkills(categoryId, skillIds, match, pageable, userId, ALL), etag);
+        }
+        if (userId == null && pageable.getPageNumber() == 0) {
+            return JsonResponses.of(projectStudyService.getProjectStudyListJson(categoryId, pageable, ALL), webRequest);
+        }
+        return JsonResponses.ok(projectStudyService.getProjectStudyList(categoryId, pageable, userId, ALL), etag);
     }
 
     @GetMapping("/list/opened/{categoryId}")
-    @ApiOperation(value = "프로젝트/스터디 게시글 전체 조회(모집 중)", notes = "모집 중인 게시글들만 카테고리 별 / 생성일 기준 내림차 순으로 출력한다.")
-    public ResponseEntity<Page<ProjectStudyDto.Response>> getOpenedPostList(@PathVariable Long categoryId,
-                                                                            @AuthenticationPrincipal Long userId,
-                                                                            @PageableDefault Pageable pageable) {
-        return ResponseEntity.ok(projectStudyService.getProjectStudyList(categoryId, pageable, userId, OPENED));
+    @ApiOperation(value = "프로젝트/스터디 게시글 전체 조회(모집 중)", response = ProjectStudyDto.Response.class, responseContainer = "List",
+            notes = "모집 중인 게시글들만 카테고리 별 / 생성일 기준 내림차 순으로 출력한다. skillIds 를 전달하면 기술 스택으로 거른다(match=AND|OR).")
+    public ResponseEntity<?> getOpenedPostList(@PathVariable Long categoryId,
+                                               @RequestParam(required = false) List<Long> skillIds,
+                                               @RequestParam(defaultValue = "AND") SkillMatch match,
+                                               @AuthenticationPrincipal Long userId,
+                                               @PageableDefault Pageable pageable,
+                                               WebRequest webRequest) {
+        String etag = projectStudyService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        if (skillIds != null && !skillIds.isEmpty()) {
+            return JsonResponses.ok(projectStudyService.getProjectStudyListBySkills(categoryId, skillIds, match, pageable, userId, OPENED), etag);
+        }
+        if (userId == null && pageable.getPageNumber() == 0) {
+            return JsonResponses.of(projectStudyService.getProjectStudyListJson(categoryId, pageable, OPENED), webRequest);
+        }
+        return JsonResponses.ok(projectStudyService.getProjectStudyList(categoryId, pageable, userId, OPENED), etag);
+    }
+
+    @GetMapping(value = "/list/all/{categoryId}", params = "cursor")
+    @ApiOperation(value = "프로젝트/스터디 게시글 전체 조회(커서 기준)", notes = "모집 여부와 상관없이 카테고리 별, 전달받은 커서 이후의 게시글을 생성일 기준 내림차 순으로 출력한다. 첫 페이지는 빈 커서로 요청한다.")
+    public ResponseEntity<SliceResponse<ProjectStudyDto.Response>> getAllPostListByCursor(@PathVariable Long categoryId,
+                                                                                          @RequestParam(required = false) String cursor,
+                                                                                          @AuthenticationPrincipal Long userId,
+                                                                                          @PageableDefault Pageable pageable,
+                                                                                          WebRequest webRequest) {
+        String etag = projectStudyService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        return JsonResponses.ok(projectStudyService.getProjectStudyListByCursor(categoryId, cursor, pageable.getPageSize(), userId, ALL), etag);
+    }
+
+    @GetMapping(value = "/list/opened/{categoryId}", params = "cursor")
+    @ApiOperation(value = "프로젝트/스터디 게시글 전체 조회(모집 중, 커서 기준)", notes = "모집 중인 게시글들만 카테고리 별, 전달받은 커서 이후의 게시글을 생성일 기준 내림차 순으로 출력한다. 첫 페이지는 빈 커서로 요청한다.")
+    public ResponseEntity<SliceResponse<ProjectStudyDto.Response>> getOpenedPostListByCursor(@PathVariable Long categoryId,
+                                                                                             @RequestParam(required = false) String cursor,
+                                                                                             @AuthenticationPrincipal Long userId,
+                                                                                             @PageableDefault Pageable pageable,
+                                                                                             WebRequest webRequest) {
+        String etag = projectStudyService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        return JsonResponses.ok(projectStudyService.getProjectStudyListByCursor(categoryId, cursor, pageable.getPageSize(), userId, OPENED), etag);
     }
 
     @GetMapping("/list/all/likes/{categoryId}")
     @ApiOperation(value = "프로젝트/스터디 게시글 전체 조회(좋아요 순)", notes = "모집 여부와 상관없이 카테고리 별 / 좋아요 순 / 생성일 기준 내림차 순으로 출력한다.")
     public ResponseEntity<Page<ProjectStudyDto.Response>> getAllProjectStudyLikesDescList(@PathVariable Long categoryId,
                                                                          @AuthenticationPrincipal Long userId,
-                                                                         @PageableDefault Pageable pageable) {
-        return ResponseEntity.ok(projectStudyService.getProjectStudyLikesList(categoryId, pageable, userId, ALL));
+                                                                         @PageableDefault Pageable pageable,
+                                                                         WebRequest webRequest) {
+        String etag = projectStudyService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        return JsonResponses.ok(projectStudyService.getProjectStudyLikesList(categoryId, pageable, userId, ALL), etag);
     }
 
     @GetMapping("/list/opened/likes/{categoryId}")
     @ApiOperation(value = "프로젝트/스터디 게시글 전체 조회(좋아요 순)", notes = "모집 중인 게시글들만 카테고리 별 / 좋아요 순 / 생성일 기준 내림차 순으로 출력한다.")
     public ResponseEntity<Page<ProjectStudyDto.Response>> getOpenedProjectStudyLikesDescList(@PathVariable Long categoryId,
                                                                                    @AuthenticationPrincipal Long userId,
-                                                                                   @PageableDefault Pageable pageable) {
-        return ResponseEntity.ok(projectStudyService.getProjectStudyLikesList(categoryId, pageable, userId, OPENED));
+                                                                                   @PageableDefault Pageable pageable,
+                                                                                   WebRequest webRequest) {
+        String etag = projectStudyService.getListEtag(categoryId, userId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        return JsonResponses.ok(projectStudyService.getProjectStudyLikesList(categoryId, pageable, userId, OPENED), etag);
     }
 
     @GetMapping("/post/{postId}")
-    @ApiOperation(value = "프로젝트/스터디 게시글 상세 조회")
-    public ResponseEntity<ProjectStudyDto.Response> getPost(@PathVariable Long postId,
-                                                            @AuthenticationPrincipal Long currentUserId) {
-        return ResponseEntity.ok(projectStudyService.getProjectStudyDetails(postId, currentUserId));
+    @ApiOperation(value = "프로젝트/스터디 게시글 상세 조회", response = ProjectStudyDto.Response.class)
+    public ResponseEntity<?> getPost(@PathVariable Long postId,
+                                     @AuthenticationPrincipal Long currentUserId,
+                                     WebRequest webRequest) {
+        String etag = projectStudyService.getPostEtag(postId, currentUserId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        if (currentUserId == null) {
+            return JsonResponses.of(projectStudyService.getProjectStudyDetailsJson(postId, null), webRequest);
+        }
+        return JsonResponses.ok(projectStudyService.getProjectStudyDetails(postId, currentUserId), etag);
+    }
+
+    @GetMapping(value = "/post/{postId}", params = "replySize")
+    @ApiOperation(value = "프로젝트/스터디 게시글 상세 조회(댓글 첫 페이지만)", response = ProjectStudyDto.Response.class,
+            notes = "전체 댓글 대신 최상위 댓글 replySize 개와 다음 댓글 페이지 커서를 함께 출력한다. "
+                    + "replySize 는 1 ~ 50 사이로 맞춘다.")
+    public ResponseEntity<?> getPostWithReplyPage(@PathVariable Long postId,
+                                                  @RequestParam Integer replySize,
+                                                  @AuthenticationPrincipal Long currentUserId,
+                                                  WebRequest webRequest) {
+        String etag = projectStudyService.getPostEtag(postId, currentUserId);
+        if (JsonResponses.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+        if (currentUserId == null) {
+            return JsonResponses.of(projectStudyService.getProjectStudyDetailsJson(postId, replySize), webRequest);
+        }
+        return JsonResponses.ok(projectStudyService.getProjectStudyDetails(postId, currentUserId, replySize), etag);
     }
 
     @PostMapping("/create")
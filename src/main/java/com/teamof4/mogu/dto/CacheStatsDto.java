@@ -0,0 +1,28 @@
+package com.teamof4.mogu.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CacheStatsDto {
+
+    @ApiModelProperty(notes = "캐시 영역 이름")
+    private String region;
+
+    @ApiModelProperty(notes = "캐시에서 찾은 횟수")
+    private long hitCount;
+
+    @ApiModelProperty(notes = "캐시에 없어 DB를 조회한 횟수")
+    private long missCount;
+
+    @ApiModelProperty(notes = "캐시에 저장한 횟수")
+    private long putCount;
+
+    @ApiModelProperty(notes = "메모리에 있는 항목 수(알 수 없으면 -1)")
+    private long elementCount;
+
+    @ApiModelProperty(notes = "적중률(0~1)")
+    private double hitRatio;
+}
@@ -0,0 +1,19 @@
+package com.teamof4.mogu.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CorrectionDto {
+
+    @ApiModelProperty(notes = "교정된 검색어")
+    private String text;
+
+    @ApiModelProperty(notes = "입력한 검색어와의 편집 거리")
+    private int distance;
+
+    @ApiModelProperty(notes = "기술 스택 사용 수와 제목 출현 횟수를 더한 빈도")
+    private long weight;
+}
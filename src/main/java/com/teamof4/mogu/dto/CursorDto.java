@@ -0,0 +1,77 @@
+package com.teamof4.mogu.dto;
+
+import com.teamof4.mogu.exception.post.InvalidCursorException;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorDto {
+
+    private static final String CURSOR_PREFIX = "p:";
+
+    @Getter
+    public static class SliceResponse<T> {
+
+        @ApiModelProperty(notes = "게시글 리스트")
+        private List<T> content;
+
+        @ApiModelProperty(notes = "요청한 페이지 크기")
+        private int size;
+
+        @ApiModelProperty(notes = "다음 페이지 존재 여부")
+        private boolean hasNext;
+
+        @ApiModelProperty(notes = "다음 페이지 요청 시 전달할 커서")
+        private String nextCursor;
+
+        public SliceResponse(Slice<T> slice, Function<T, Long> idExtractor) {
+            this.content = slice.getContent();
+            this.size = slice.getSize();
+            this.hasNext = slice.hasNext();
+            this.nextCursor = null;
+
+            if (slice.hasNext() && !content.isEmpty()) {
+                this.nextCursor = encode(idExtractor.apply(content.get(content.size() - 1)));
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 조회한 게시글 ID를 클라이언트가 해석하지 않아도 되는 커서 문자열로 변환한다.
+     */
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 비어있으면 첫 페이지 요청으로 보고 가장 큰 ID 값을 반환한다.
+     */
+    public static Long decode(String cursor) {
+        return decode(cursor, Long.MAX_VALUE);
+    }
+
+    /**
+     * ID 오름차순 목록처럼 첫 페이지의 기준 ID가 다른 경우 firstPageId 를 지정한다.
+     */
+    public static Long decode(String cursor, Long firstPageId) {
+        if (cursor == null || cursor.isBlank()) {
+            return firstPageId;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("올바르지 않은 커서입니다.");
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidCursorException("올바르지 않은 커서입니다.");
+        }
+    }
+}
@@ -96,6 +96,9 @@ public class PostDto {
         @ApiModelProperty(notes = "댓글 리스트")
         private List<ReplyDto.Response> replyList;
 
+        @ApiModelProperty(notes = "다음 댓글 페이지 커서(댓글 첫 페이지만 요청한 경우)")
+        private String replyNextCursor;
+
         @ApiModelProperty(notes = "게시글 생성 시간")
         private LocalDateTime createdAt;
 
@@ -103,7 +106,7 @@ public class PostDto {
         private LocalDateTime updatedAt;
 
         @Builder
-        public Response(Post post, List<ReplyDto.Response> replies, boolean isLiked) {
+        public Response(Post post, List<ReplyDto.Response> replies, boolean isLiked, String replyNextCursor) {
             this.id = post.getId();
             this.userId = post.getUser().getId();
             this.categoryId = post.getCategory().getId();
@@ -113,12 +116,108 @@ public class PostDto {
             this.title = post.getTitle();
             this.content = post.getContent();
             this.view = post.getView();
-            this.likeCount = post.getLikes().size();
+            this.likeCount = post.getLikeCount();
             this.likeStatus = isLiked;
             this.replyList = replies;
+            this.replyNextCursor = replyNextCursor;
             this.createdAt = post.getCreatedAt();
             this.updatedAt = post.getUpdatedAt();
         }
+
+        private Response(Response source, int view, boolean likeStatus) {
+            this.id = source.id;
+            this.userId = source.userId;
+            this.categoryId = source.categoryId;
+            this.userNickname = source.userNickname;
+            this.userProfileImage = source.userProfileImage;
+            this.categoryName = source.categoryName;
+            this.title = source.title;
+            this.content = source.content;
+            this.view = view;
+            this.likeCount = source.likeCount;
+            this.likeStatus = likeStatus;
+            this.replyList = source.replyList;
+            this.replyNextCursor = source.replyNextCursor;
+            this.createdAt = source.createdAt;
+            this.updatedAt = source.updatedAt;
+        }
+
+        /**
+         * 캐시된 응답에 현재 유저의 좋아요 여부와 최신 조회수만 바꾼 복사본
+         */
+        public Response withViewer(int view, boolean likeStatus) {
+            return new Response(this, view, likeStatus);
+        }
+    }
+
+    @Getter
+    public static class SummaryResponse {
+
+        @ApiModelProperty(notes = "게시글 ID")
+        private Long id;
+
+        @ApiModelProperty(notes = "작성자 ID")
+        private Long userId;
+
+        @ApiModelProperty(notes = "카테고리 ID")
+        private Long categoryId;
+
+        @ApiModelProperty(notes = "작성자 닉네임")
+        private String userNickname;
+
+        @ApiModelProperty(notes = "작성자 프로필 사진")
+        private String userProfileImage;
+
+        @ApiModelProperty(notes = "카테고리 이름")
+        private String categoryName;
+
+        @ApiModelProperty(notes = "게시글 제목")
+        private String title;
+
+        @ApiModelProperty(notes = "게시글 내용 요약")
+        private String excerpt;
+
+        @ApiModelProperty(notes = "조회수")
+        private int view;
+
+        @ApiModelProperty(notes = "좋아요 수")
+        private int likeCount;
+
+        @ApiModelProperty(notes = "로그인 한 유저의 좋아요 여부")
+        private boolean likeStatus;
+
+        @ApiModelProperty(notes = "게시글 생성 시간")
+        private LocalDateTime createdAt;
+
+        @ApiModelProperty(notes = "게시글 수정 시간")
+        private LocalDateTime updatedAt;
+
+        /**
+         * PostRepository 의 리스트 조회 쿼리에서 직접 생성한다.
+         */
+        public SummaryResponse(Long id, Long userId, Long categoryId, String userNickname,
+                               String userProfileImage, String categoryName, String title, String excerpt,
+                               int view, int likeCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.id = id;
+            this.userId = userId;
+            this.categoryId = categoryId;
+            this.userNickname = userNickname;
+            this.userProfileImage = userProfileImage;
+            this.categoryName = categoryName;
+            this.title = title;
+            this.excerpt = excerpt;
+            this.view = view;
+            this.likeCount = likeCount;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+
+        public SummaryResponse withLikeStatus(boolean likeStatus) {
+            SummaryResponse response = new SummaryResponse(id, userId, categoryId, userNickname,
+                    userProfileImage, categoryName, title, excerpt, view, likeCount, createdAt, updatedAt);
+            response.likeStatus = likeStatus;
+            return response;
+        }
     }
 
     @Getter
@@ -13,6 +13,7 @@ import javax.validation.constraints.NotNull;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class ProjectStudyDto {
@@ -136,6 +137,9 @@ public class ProjectStudyDto {
         @ApiModelProperty(notes = "댓글 리스트")
         private List<ReplyDto.Response> replyList;
 
+        @ApiModelProperty(notes = "다음 댓글 페이지 커서(댓글 첫 페이지만 요청한 경우)")
+        private String replyNextCursor;
+
         @ApiModelProperty(notes = "대표 이미지")
         private String mainImage;
 
@@ -150,7 +154,7 @@ public class ProjectStudyDto {
 
         @Builder
         public Response(Post post, ProjectStudy projectStudy,
-                        List<ReplyDto.Response> replies, boolean isLiked) {
+                        List<ReplyDto.Response> replies, boolean isLiked, String replyNextCursor) {
 
             this.postId = post.getId();
             this.userId = post.getUser().getId();
@@ -161,7 +165,7 @@ public class ProjectStudyDto {
             this.title = post.getTitle();
             this.content = post.getContent();
             this.view = post.getView();
-            this.likeCount = post.getLikes().size();
+            this.likeCount = post.getLikeCount();
             this.likeStatus = isLiked;
             this.preferredMethod = projectStudy.getPreferredMethod();
             this.region = projectStudy.getRegion();
@@ -173,11 +177,74 @@ public class ProjectStudyDto {
             this.postSkills = projectStudy.getPostSkills().stream()
                     .map(PostSkill::getSkill).collect(Collectors.toList());
             this.replyList = replies;
+            this.replyNextCursor = replyNextCursor;
             this.mainImage = projectStudy.getImage().getImageUrl();
             this.startAt = projectStudy.getStartAt();
             this.createdAt = post.getCreatedAt();
             this.updatedAt = post.getUpdatedAt();
 
         }
+
+        private Response(Response source, int view, boolean likeStatus) {
+            this.postId = source.postId;
+            this.userId = source.userId;
+            this.categoryId = source.categoryId;
+            this.userNickname = source.userNickname;
+            this.userProfileImage = source.userProfileImage;
+            this.categoryName = source.categoryName;
+            this.title = source.title;
+            this.content = source.content;
+            this.view = view;
+            this.likeCount = source.likeCount;
+            this.likeStatus = likeStatus;
+            this.preferredMethod = source.preferredMethod;
+            this.region = source.region;
+            this.period = source.period;
+            this.memberCount = source.memberCount;
+            this.contactMethod = source.contactMethod;
+            this.contactInfo = source.contactInfo;
+            this.openStatus = source.openStatus;
+            this.postSkills = source.postSkills;
+            this.replyList = source.replyList;
+            this.replyNextCursor = source.replyNextCursor;
+            this.mainImage = source.mainImage;
+            this.startAt = source.startAt;
+            this.createdAt = source.createdAt;
+            this.updatedAt = source.updatedAt;
+        }
+
+        /**
+         * 캐시된 응답에 현재 유저의 좋아요 여부와 최신 조회수만 바꾼 복사본
+         */
+        public Response withViewer(int view, boolean likeStatus) {
+            return new Response(this, view, likeStatus);
+        }
+
+        /**
+         * 캐시된 리스트 응답에 현재 유저의 좋아요 여부만 바꾼 복사본
+         */
+        public Response withLikeStatus(boolean likeStatus) {
+            return new Response(this, view, likeStatus);
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class FacetResponse {
+
+        @ApiModelProperty(notes = "지역별 게시글 수")
+        private Map<String, Long> region;
+
+        @ApiModelProperty(notes = "진행 방식별 게시글 수")
+        private Map<String, Long> preferredMethod;
+
+        @ApiModelProperty(notes = "기술 스택 ID별 게시글 수")
+        private Map<Long, Long> skill;
+
+        @ApiModelProperty(notes = "모집 중인 게시글 수")
+        private long openedCount;
+
+        @ApiModelProperty(notes = "모집 완료된 게시글 수")
+        private long closedCount;
     }
 }
@@ -69,8 +69,11 @@ public class ReplyDto {
         @ApiModelProperty(notes = "대댓글 리스트")
         private List<Response> children;
 
+        @ApiModelProperty(notes = "대댓글 수")
+        private long childCount;
+
         @Builder
-        public Response(Reply reply, String targetNickname, List<Response> children) {
+        public Response(Reply reply, String targetNickname, List<Response> children, long childCount) {
             this.id = reply.getId();
             this.userId = reply.getUser().getId();
             this.userNickname = reply.getUser().getNickname();
@@ -78,6 +81,7 @@ public class ReplyDto {
             this.createAt = reply.getCreatedAt();
             this.updatedAt = reply.getUpdatedAt();
             this.children = children;
+            this.childCount = childCount;
             this.deleteStatus = reply.isDeleted();
             this.targetNickname = targetNickname;
         }
@@ -0,0 +1,23 @@
+package com.teamof4.mogu.dto;
+
+import com.teamof4.mogu.constants.SuggestType;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SuggestDto {
+
+    @ApiModelProperty(notes = "자동완성 종류(SKILL, TITLE, USER)")
+    private SuggestType type;
+
+    @ApiModelProperty(notes = "자동완성 문구")
+    private String text;
+
+    @ApiModelProperty(notes = "기술 스택 ID, 게시글 ID 혹은 회원 ID")
+    private Long id;
+
+    @ApiModelProperty(notes = "인기도(기술 스택은 사용 게시글 수, 제목은 조회수와 좋아요 수, 회원은 작성 게시글 수)")
+    private long weight;
+}
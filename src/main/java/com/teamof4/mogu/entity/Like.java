@@ -11,7 +11,9 @@ import static javax.persistence.FetchType.LAZY;
 @Getter
 @Builder
 @AllArgsConstructor
-@Table(name = "post_liked")
+@Table(name = "post_liked", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_liked_user_id_post_id", columnNames = {"user_id", "post_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Like {
 
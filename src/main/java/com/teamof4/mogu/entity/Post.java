@@ -20,6 +20,10 @@ import static javax.persistence.FetchType.*;
 @Builder
 @AllArgsConstructor
 @Where(clause = "is_deleted = '0'")
+@Table(indexes = {
+        @Index(name = "idx_post_category_id", columnList = "category_id, id"),
+        @Index(name = "idx_post_category_id_like_count", columnList = "category_id, like_count, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
 
@@ -44,8 +48,13 @@ public class Post extends BaseTimeEntity {
 
     private String content;
 
+    // 조회수와 좋아요 수는 bulk UPDATE 로만 증가시킨다. 엔티티를 저장할 때 읽어 둔 값으로 덮어쓰지 않도록 제외한다.
+    @Column(updatable = false)
     private int view;
 
+    @Column(updatable = false)
+    private int likeCount;
+
     private boolean isDeleted;
 
     @BatchSize(size = 100)
@@ -67,19 +76,15 @@ public class Post extends BaseTimeEntity {
         this.isDeleted = true;
     }
 
-    public void addViewCount(int view) {
-        this.view = view + 1;
-    }
-
-    public MyPageResponse toMyPageResponse(User currentUser) {
+    public MyPageResponse toMyPageResponse(boolean isLiked) {
         return MyPageResponse.builder()
                 .id(this.id)
                 .categoryName(this.category.getCategoryName())
                 .title(this.title)
                 .nickname(this.user.getNickname())
                 .view(this.view)
-                .likeCount(this.getLikes().size())
-                .isLiked(this.getLikes().stream().anyMatch(like -> like.getUser().equals(currentUser)))
+                .likeCount(this.likeCount)
+                .isLiked(isLiked)
                 .createdAt(this.getCreatedAt())
                 .build();
     }
@@ -1,6 +1,7 @@
 package com.teamof4.mogu.entity;
 
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import javax.validation.constraints.Size;
@@ -47,6 +48,7 @@ public class ProjectStudy {
 
     private LocalDate startAt;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "projectStudy")
     private List<PostSkill> postSkills = new ArrayList<>();
 
@@ -14,6 +14,7 @@ import static javax.persistence.FetchType.*;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_reply_post_id_parent_reply_id", columnList = "post_id, parent_reply_id, id"))
 public class Reply extends BaseTimeEntity {
 
     @Id
@@ -4,6 +4,8 @@ import com.teamof4.mogu.dto.UserDto.LoginInfoResponse;
 import com.teamof4.mogu.dto.UserDto.UpdateRequest;
 import com.teamof4.mogu.dto.UserDto.MyInfoResponse;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -16,6 +18,8 @@ import static javax.persistence.FetchType.LAZY;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class User extends BaseTimeEntity {
 
@@ -47,6 +51,7 @@ public class User extends BaseTimeEntity {
 
     private String information;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "user", fetch = LAZY)
     private List<UserSkill> userSkills = new ArrayList<>();
 
@@ -1,8 +1,10 @@
 package com.teamof4.mogu.exception;
 
+import com.teamof4.mogu.exception.cache.LoadTimeoutException;
 import com.teamof4.mogu.exception.image.FailedImageUploadException;
 import com.teamof4.mogu.exception.image.FailedImageConvertException;
 import com.teamof4.mogu.exception.image.ImageNotFoundException;
+import com.teamof4.mogu.exception.post.InvalidCursorException;
 import com.teamof4.mogu.exception.user.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -108,6 +110,20 @@ public class MoguExceptionHandler {
         return NOT_LOGINED_USER;
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public final ResponseEntity<String> handleInvalidCursorException(
+            InvalidCursorException exception) {
+        log.debug("올바르지 않은 커서입니다.", exception);
+        return INVALID_CURSOR;
+    }
+
+    @ExceptionHandler(LoadTimeoutException.class)
+    public final ResponseEntity<String> handleLoadTimeoutException(
+            LoadTimeoutException exception) {
+        log.warn("캐시 미스 조회를 기다리다 시간이 초과되었습니다.", exception);
+        return LOAD_TIMEOUT;
+    }
+
     @ExceptionHandler(BindException.class)
     public ResponseEntity<Map<String, String>> handleBindException(BindException exception) {
         Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,7 @@
+package com.teamof4.mogu.exception.cache;
+
+public class LoadTimeoutException extends RuntimeException {
+    public LoadTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.teamof4.mogu.exception.post;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
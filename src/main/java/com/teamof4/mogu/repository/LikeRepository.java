@@ -4,15 +4,24 @@ import com.teamof4.mogu.entity.Like;
 import com.teamof4.mogu.entity.Post;
 import com.teamof4.mogu.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface LikeRepository extends JpaRepository<Like, Long> {
+public interface LikeRepository extends JpaRepository<Like, Long>, LikeRepositoryCustom {
     Optional<Like> findByUserAndPost(User user, Post post);
 
     Optional<Like> findByUser(User user);
 
     boolean existsByUserAndPost(User user, Post post);
 
-    int countByPost(Post post);
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.post.id = :postId")
+    int deleteByUserIdAndPostId(Long userId, Long postId);
+
+    @Query("SELECT l.post.id FROM Like l " +
+            "WHERE l.user.id = :userId")
+    List<Long> findAllLikedPostIds(Long userId);
 }
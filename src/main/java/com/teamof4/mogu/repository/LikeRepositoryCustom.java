@@ -0,0 +1,9 @@
+package com.teamof4.mogu.repository;
+
+public interface LikeRepositoryCustom {
+
+    /**
+     * (user_id, post_id) 유니크 키에 걸리거나 삭제된 게시글이면 아무것도 추가하지 않고 0을 반환한다.
+     */
+    int insertIgnore(Long userId, Long postId);
+}
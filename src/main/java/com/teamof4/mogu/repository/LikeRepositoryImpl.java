@@ -0,0 +1,28 @@
+package com.teamof4.mogu.repository;
+
+import com.teamof4.mogu.entity.Like;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+
+@RequiredArgsConstructor
+public class LikeRepositoryImpl implements LikeRepositoryCustom {
+
+    private final EntityManager em;
+
+    /**
+     * 네이티브 쿼리로 데이터를 변경하면서 변경되는 테이블을 알려주지 않으면 Hibernate 가 2차 캐시와 쿼리 캐시를 모두 비운다.
+     * post_liked 테이블(Like)만 변경된다고 지정해 회원/이미지/기준 데이터 캐시는 그대로 둔다.
+     */
+    @Override
+    public int insertIgnore(Long userId, Long postId) {
+        return em.createNativeQuery("INSERT IGNORE INTO post_liked (user_id, post_id) " +
+                        "SELECT :userId, p.id FROM post p WHERE p.id = :postId AND p.is_deleted = '0'")
+                .setParameter("userId", userId)
+                .setParameter("postId", postId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Like.class)
+                .executeUpdate();
+    }
+}
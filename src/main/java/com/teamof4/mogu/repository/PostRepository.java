@@ -1,26 +1,130 @@
 package com.teamof4.mogu.repository;
 
+import com.teamof4.mogu.dto.PostDto.SummaryResponse;
 import com.teamof4.mogu.entity.Category;
 import com.teamof4.mogu.entity.Post;
 import com.teamof4.mogu.entity.User;
+import com.teamof4.mogu.search.SearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query("SELECT p FROM Post p " +
+    String SUMMARY_SELECT = "SELECT new com.teamof4.mogu.dto.PostDto$SummaryResponse(" +
+            "p.id, u.id, c.id, u.nickname, i.imageUrl, c.categoryName, p.title, " +
+            "SUBSTRING(p.content, 1, 100), p.view, p.likeCount, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.user u LEFT JOIN u.image i JOIN p.category c ";
+
+    /**
+     * 리스트 조회는 엔티티 대신 DTO로 바로 조회한다.
+     * 본문 전체를 읽지 않고 앞부분 100자만 잘라 요약으로 내려준다.
+     */
+    @Query(value = SUMMARY_SELECT +
             "WHERE p.category = :category " +
+            "ORDER BY p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p " +
+                    "WHERE p.category = :category")
+    Page<SummaryResponse> findAllSummaries(Pageable pageable, Category category);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE p.category = :category AND p.id < :lastPostId " +
             "ORDER BY p.id DESC")
-    Page<Post> findAll(Pageable pageable, Category category);
+    Slice<SummaryResponse> findAllSummariesByCursor(Category category, Long lastPostId, Pageable pageable);
 
-    @Query("SELECT p FROM Post p " +
+    @Query(value = SUMMARY_SELECT +
             "WHERE p.category = :category " +
-            "ORDER BY size(p.likes) DESC, p.id DESC ")
-    Page<Post> findAllLikesDesc(Pageable pageable, Category category);
+            "ORDER BY p.likeCount DESC, p.id DESC ",
+            countQuery = "SELECT COUNT(p) FROM Post p " +
+                    "WHERE p.category = :category")
+    Page<SummaryResponse> findAllSummariesLikesDesc(Pageable pageable, Category category);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.view = p.view + :amount " +
+            "WHERE p.id = :postId")
+    int updateViewCount(Long postId, int amount);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :amount " +
+            "WHERE p.id = :postId")
+    int updateLikeCount(Long postId, int amount);
+
+    @Query("SELECT p.likeCount FROM Post p " +
+            "WHERE p.id = :postId")
+    int findLikeCountById(Long postId);
+
+    @Query("SELECT p.category.id FROM Post p " +
+            "WHERE p.id = :postId")
+    Long findCategoryIdById(Long postId);
+
+    @Query("SELECT new com.teamof4.mogu.search.SearchDocument(p.id, c.id, p.title, p.content, ps.openStatus) " +
+            "FROM Post p JOIN p.category c LEFT JOIN p.projectStudies ps " +
+            "WHERE p.id > :lastPostId " +
+            "ORDER BY p.id ASC")
+    Slice<SearchDocument> findSearchDocuments(Long lastPostId, Pageable pageable);
+
+    @Query(value = "SELECT p.id FROM Post p LEFT JOIN p.projectStudies ps " +
+            "WHERE p.category.id = :categoryId AND (:openedOnly = false OR ps.openStatus = true) " +
+            "AND ( p.title LIKE %:keyword% OR p.content LIKE %:keyword% ) " +
+            "ORDER BY p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p LEFT JOIN p.projectStudies ps " +
+                    "WHERE p.category.id = :categoryId AND (:openedOnly = false OR ps.openStatus = true) " +
+                    "AND ( p.title LIKE %:keyword% OR p.content LIKE %:keyword% )")
+    Page<Long> searchIdsByKeyword(String keyword, Long categoryId, boolean openedOnly, Pageable pageable);
+
+    String FULLTEXT_FROM = "FROM post p LEFT JOIN project_study ps ON ps.post_id = p.id " +
+            "WHERE p.category_id = :categoryId AND p.is_deleted = '0' " +
+            "AND (:openedOnly = false OR ps.is_opened = true) ";
+
+    String NATURAL_MATCH = "MATCH(p.title, p.content) AGAINST(:keyword IN NATURAL LANGUAGE MODE)";
+
+    String BOOLEAN_MATCH = "MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE)";
+
+    @Query(value = "SELECT p.id " + FULLTEXT_FROM + "AND " + NATURAL_MATCH + " " +
+            "ORDER BY " + NATURAL_MATCH + " DESC, p.id DESC",
+            countQuery = "SELECT COUNT(*) " + FULLTEXT_FROM + "AND " + NATURAL_MATCH,
+            nativeQuery = true)
+    Page<Number> searchIdsByFullText(String keyword, Long categoryId, boolean openedOnly, Pageable pageable);
+
+    @Query(value = "SELECT p.id " + FULLTEXT_FROM + "AND " + NATURAL_MATCH + " " +
+            "ORDER BY p.id DESC",
+            countQuery = "SELECT COUNT(*) " + FULLTEXT_FROM + "AND " + NATURAL_MATCH,
+            nativeQuery = true)
+    Page<Number> searchIdsByFullTextRecent(String keyword, Long categoryId, boolean openedOnly, Pageable pageable);
+
+    @Query(value = "SELECT p.id " + FULLTEXT_FROM + "AND " + BOOLEAN_MATCH + " " +
+            "ORDER BY " + BOOLEAN_MATCH + " DESC, p.id DESC",
+            countQuery = "SELECT COUNT(*) " + FULLTEXT_FROM + "AND " + BOOLEAN_MATCH,
+            nativeQuery = true)
+    Page<Number> searchIdsByFullTextBoolean(String keyword, Long categoryId, boolean openedOnly, Pageable pageable);
+
+    @Query(value = "SELECT p.id " + FULLTEXT_FROM + "AND " + BOOLEAN_MATCH + " " +
+            "ORDER BY p.id DESC",
+            countQuery = "SELECT COUNT(*) " + FULLTEXT_FROM + "AND " + BOOLEAN_MATCH,
+            nativeQuery = true)
+    Page<Number> searchIdsByFullTextBooleanRecent(String keyword, Long categoryId, boolean openedOnly,
+                                                  Pageable pageable);
+
+    /**
+     * 자동완성용 인기 프로젝트/스터디 제목. [게시글 ID, 제목, 인기도(조회수 + 좋아요 수 * 10)]
+     */
+    @Query("SELECT p.id, p.title, p.view + p.likeCount * 10 FROM Post p JOIN p.projectStudies ps " +
+            "ORDER BY p.view + p.likeCount * 10 DESC, p.id DESC")
+    List<Object[]> findPopularProjectStudyTitles(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE p.id IN :postIds")
+    List<SummaryResponse> findAllSummariesByIds(Collection<Long> postIds);
 
     @Query(value = "SELECT DISTINCT p FROM Post p " +
             "JOIN FETCH p.projectStudies " +
@@ -1,10 +1,22 @@
 package com.teamof4.mogu.repository;
 
 import com.teamof4.mogu.entity.PostSkill;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 
 @Repository
 public interface PostSkillRepository extends JpaRepository<PostSkill, Long> {
+
+    /**
+     * 기술 스택 비트맵 생성용. [post_skill ID, 게시글 ID, 카테고리 ID, 모집 여부, 기술 스택 ID]
+     */
+    @Query("SELECT pk.id, p.id, p.category.id, ps.openStatus, pk.skill.id FROM PostSkill pk " +
+            "JOIN pk.projectStudy ps JOIN ps.post p " +
+            "WHERE pk.id > :lastPostSkillId AND p.isDeleted = false " +
+            "ORDER BY pk.id ASC")
+    Slice<Object[]> findSkillIndexRows(Long lastPostSkillId, Pageable pageable);
 }
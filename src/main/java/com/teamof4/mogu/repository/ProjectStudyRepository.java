@@ -5,10 +5,14 @@ import com.teamof4.mogu.entity.Post;
 import com.teamof4.mogu.entity.ProjectStudy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -16,36 +20,53 @@ import java.util.Optional;
 public interface ProjectStudyRepository extends JpaRepository<ProjectStudy, Long> {
     Optional<ProjectStudy> findByPost(Post post);
 
+    @EntityGraph(attributePaths = {"image", "post", "post.user", "post.user.image", "post.category", "post.projectStudies"})
+    @Query("SELECT ps FROM ProjectStudy ps WHERE ps.post.id IN :postIds")
+    List<ProjectStudy> findAllByPostIds(Collection<Long> postIds);
+
+    /**
+     * 집계 생성용. [프로젝트/스터디 ID, 게시글 ID, 카테고리 ID, 지역, 진행 방식, 모집 여부]
+     */
+    @Query("SELECT ps.id, p.id, p.category.id, ps.region, ps.preferredMethod, ps.openStatus " +
+            "FROM ProjectStudy ps JOIN ps.post p " +
+            "WHERE ps.id > :lastProjectStudyId AND p.isDeleted = false " +
+            "ORDER BY ps.id ASC")
+    Slice<Object[]> findFacetRows(Long lastProjectStudyId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"image", "post", "post.user", "post.user.image", "post.category", "post.projectStudies"})
     @Query("SELECT ps FROM ProjectStudy ps join ps.post p " +
             "WHERE p.category = :category " +
             "ORDER BY p.id DESC")
     Page<ProjectStudy> findAll(Category category, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"image", "post", "post.user", "post.user.image", "post.category", "post.projectStudies"})
     @Query("SELECT ps FROM ProjectStudy ps join ps.post p " +
             "WHERE p.category = :category AND ps.openStatus = true " +
             "ORDER BY p.id DESC")
     Page<ProjectStudy> findAllOpened(Category category, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"image", "post", "post.user", "post.user.image", "post.category", "post.projectStudies"})
     @Query("SELECT ps FROM ProjectStudy ps join ps.post p " +
-            "WHERE p.category = :category " +
-            "ORDER BY size(p.likes) DESC, p.id DESC")
-    Page<ProjectStudy> findAllLikesDesc(Category category, Pageable pageable);
+            "WHERE p.category = :category AND p.id < :lastPostId " +
+            "ORDER BY p.id DESC")
+    Slice<ProjectStudy> findAllByCursor(Category category, Long lastPostId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"image", "post", "post.user", "post.user.image", "post.category", "post.projectStudies"})
     @Query("SELECT ps FROM ProjectStudy ps join ps.post p " +
-            "WHERE p.category = :category AND ps.openStatus = true " +
-            "ORDER BY size(p.likes) DESC, p.id DESC")
-    Page<ProjectStudy> findAllOpenedLikesDesc(Category category, Pageable pageable);
+            "WHERE p.category = :category AND ps.openStatus = true AND p.id < :lastPostId " +
+            "ORDER BY p.id DESC")
+    Slice<ProjectStudy> findAllOpenedByCursor(Category category, Long lastPostId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"image", "post", "post.user", "post.user.image", "post.category", "post.projectStudies"})
     @Query("SELECT ps FROM ProjectStudy ps join ps.post p " +
             "WHERE p.category = :category " +
-            "AND ( p.title LIKE %:keyword% OR p.content LIKE %:keyword% ) " +
-            "ORDER BY p.id DESC")
-    Page<ProjectStudy> findAllByKeyword(String keyword, Category category, Pageable pageable);
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    Page<ProjectStudy> findAllLikesDesc(Category category, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"image", "post", "post.user", "post.user.image", "post.category", "post.projectStudies"})
     @Query("SELECT ps FROM ProjectStudy ps join ps.post p " +
             "WHERE p.category = :category AND ps.openStatus = true " +
-            "AND ( p.title LIKE %:keyword% OR p.content LIKE %:keyword% ) " +
-            "ORDER BY p.id DESC")
-    Page<ProjectStudy> findAllByKeywordAndOpened(String keyword, Category category, Pageable pageable);
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    Page<ProjectStudy> findAllOpenedLikesDesc(Category category, Pageable pageable);
 
 }
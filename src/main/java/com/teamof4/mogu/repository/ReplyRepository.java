@@ -1,7 +1,37 @@
 package com.teamof4.mogu.repository;
 
 import com.teamof4.mogu.entity.Reply;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
+
+    @Query("SELECT r FROM Reply r JOIN FETCH r.user LEFT JOIN FETCH r.parentUser " +
+            "WHERE r.post.id = :postId ORDER BY r.createdAt ASC, r.id ASC")
+    List<Reply> findAllWithUsersByPostId(Long postId);
+
+    /**
+     * 댓글 ID는 작성 순서대로 증가하므로 ID 오름차순이 작성 시간 순서와 같다.
+     */
+    @EntityGraph(attributePaths = {"user", "parentUser"})
+    @Query("SELECT r FROM Reply r " +
+            "WHERE r.post.id = :postId AND r.parentReply IS NULL AND r.id > :lastReplyId " +
+            "ORDER BY r.id ASC")
+    Slice<Reply> findSuperRepliesByCursor(Long postId, Long lastReplyId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "parentUser"})
+    @Query("SELECT r FROM Reply r " +
+            "WHERE r.parentReply.id = :parentReplyId AND r.id > :lastReplyId " +
+            "ORDER BY r.id ASC")
+    Slice<Reply> findChildRepliesByCursor(Long parentReplyId, Long lastReplyId, Pageable pageable);
+
+    @Query("SELECT r.parentReply.id, COUNT(r) FROM Reply r " +
+            "WHERE r.parentReply.id IN :parentReplyIds GROUP BY r.parentReply.id")
+    List<Object[]> countChildrenByParentReplyIds(Collection<Long> parentReplyIds);
 }
@@ -2,10 +2,19 @@ package com.teamof4.mogu.repository;
 
 import com.teamof4.mogu.entity.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SkillRepository extends JpaRepository<Skill, Integer> {
 
     Optional<Skill> findBySkillName(String skillName);
+
+    /**
+     * [기술 스택 ID, 기술 스택 이름, 사용 중인 프로젝트/스터디 게시글 수]
+     */
+    @Query("SELECT s.id, s.skillName, COUNT(pk) FROM Skill s LEFT JOIN PostSkill pk ON pk.skill = s " +
+            "GROUP BY s.id, s.skillName")
+    List<Object[]> findAllWithUsageCount();
 }
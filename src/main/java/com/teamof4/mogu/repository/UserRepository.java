@@ -2,11 +2,16 @@ package com.teamof4.mogu.repository;
 
 import com.teamof4.mogu.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     Optional<User> findByEmailAndName(String email, String name);
@@ -17,4 +22,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByPhone(String phone);
 
+    /**
+     * 자동완성용 회원 닉네임. [회원 ID, 닉네임, 작성한 게시글 수]
+     */
+    @Query("SELECT u.id, u.nickname, COUNT(p) FROM User u " +
+            "LEFT JOIN Post p ON p.user = u AND p.isDeleted = false " +
+            "WHERE u.isDeleted = false " +
+            "GROUP BY u.id, u.nickname")
+    List<Object[]> findAllNicknamesWithPostCount();
+
 }
@@ -0,0 +1,130 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.dto.CorrectionDto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 오타 교정용 BK-tree. 편집 거리의 삼각 부등식을 이용해 검색어와 거리가
+ * maxDistance 를 넘는 하위 트리는 방문하지 않으므로 전체 단어를 비교하지 않는다.
+ */
+public class BkTree {
+
+    private static final Comparator<CorrectionDto> BY_DISTANCE =
+            Comparator.comparingInt(CorrectionDto::getDistance)
+                    .thenComparing(Comparator.comparingLong(CorrectionDto::getWeight).reversed())
+                    .thenComparing(CorrectionDto::getText);
+
+    private Node root;
+
+    /**
+     * 이미 있는 단어면 빈도만 더한다.
+     */
+    public void add(String term, long weight) {
+        String word = normalize(term);
+        if (word.isEmpty()) {
+            return;
+        }
+
+        if (root == null) {
+            root = new Node(word, weight);
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.term);
+            if (distance == 0) {
+                node.weight += weight;
+                return;
+            }
+
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word, weight));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * 편집 거리가 maxDistance 이하인 단어를 거리, 빈도 순으로 반환한다.
+     */
+    public List<CorrectionDto> search(String query, int maxDistance, int size) {
+        String word = normalize(query);
+        if (root == null || word.isEmpty() || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<CorrectionDto> matches = new ArrayList<>();
+        Deque<Node> candidates = new ArrayDeque<>();
+        candidates.push(root);
+
+        while (!candidates.isEmpty()) {
+            Node node = candidates.pop();
+            int distance = distance(word, node.term);
+            if (distance <= maxDistance) {
+                matches.add(CorrectionDto.builder()
+                        .text(node.term)
+                        .distance(distance)
+                        .weight(node.weight).build());
+            }
+
+            for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    candidates.push(child);
+                }
+            }
+        }
+
+        matches.sort(BY_DISTANCE);
+        return matches.subList(0, Math.min(size, matches.size()));
+    }
+
+    static int distance(String source, String target) {
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[target.length()];
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+
+        private final String term;
+        private long weight;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String term, long weight) {
+            this.term = term;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT 인덱스(ngram parser)로 검색하고 MATCH 점수 순으로 정렬한다.
+ * 아래 인덱스가 있어야 한다.
+ * <pre>
+ * ALTER TABLE post ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram;
+ * </pre>
+ * mogu.search.fulltext-mode 가 boolean 이면 모든 단어를 포함한 게시글만, natural 이면 하나라도 포함한 게시글을 찾는다.
+ */
+@Component
+@ConditionalOnProperty(name = "mogu.search.backend", havingValue = "fulltext")
+public class FullTextPostSearchBackend implements PostSearchBackend {
+
+    private static final String BOOLEAN_MODE = "boolean";
+
+    private final PostRepository postRepository;
+    private final boolean booleanMode;
+
+    public FullTextPostSearchBackend(PostRepository postRepository,
+                                     @Value("${mogu.search.fulltext-mode:natural}") String mode) {
+        this.postRepository = postRepository;
+        this.booleanMode = BOOLEAN_MODE.equalsIgnoreCase(mode);
+    }
+
+    @Override
+    public Page<Long> search(String keyword, Long categoryId, boolean openedOnly, boolean recentFirst,
+                             Pageable pageable) {
+        List<String> words = NGramTokenizer.splitWords(keyword);
+        if (words.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        Page<Number> postIds;
+        if (booleanMode) {
+            String query = words.stream().map(word -> "+" + word).collect(Collectors.joining(" "));
+            postIds = recentFirst
+                    ? postRepository.searchIdsByFullTextBooleanRecent(query, categoryId, openedOnly, pageable)
+                    : postRepository.searchIdsByFullTextBoolean(query, categoryId, openedOnly, pageable);
+        } else {
+            String query = String.join(" ", words);
+            postIds = recentFirst
+                    ? postRepository.searchIdsByFullTextRecent(query, categoryId, openedOnly, pageable)
+                    : postRepository.searchIdsByFullText(query, categoryId, openedOnly, pageable);
+        }
+
+        return postIds.map(Number::longValue);
+    }
+}
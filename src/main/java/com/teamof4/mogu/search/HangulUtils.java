@@ -0,0 +1,86 @@
+package com.teamof4.mogu.search;
+
+/**
+ * 한글 음절을 초성으로 분해한다. "스프링" 은 "ㅅㅍㄹ" 이 된다.
+ */
+public final class HangulUtils {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    // NFKC 정규화를 거치면 호환용 자모(ㄱ)가 첫소리 자모(ᄀ)로 바뀌므로 둘 다 초성으로 취급한다.
+    private static final char CONJOINING_CHOSEONG_BEGIN = 'ᄀ';
+    private static final char CONJOINING_CHOSEONG_END = 'ᄒ';
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 한글 음절과 첫소리 자모는 호환용 초성 자모로 바꾸고, 나머지 문자는 그대로 둔다.
+     */
+    public static String toChoseong(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder choseong = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                choseong.append(CHOSEONG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG]);
+            } else if (c >= CONJOINING_CHOSEONG_BEGIN && c <= CONJOINING_CHOSEONG_END) {
+                choseong.append(CHOSEONG[c - CONJOINING_CHOSEONG_BEGIN]);
+            } else {
+                choseong.append(c);
+            }
+        }
+        return choseong.toString();
+    }
+
+    /**
+     * 사용자가 초성으로 입력했는지 확인한다. "스ㅍ" 처럼 일부만 초성인 경우도 포함한다.
+     */
+    public static boolean containsChoseong(String text) {
+        if (text == null) {
+            return false;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            if (isChoseong(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성으로 바꿨을 때 원문과 달라지는지 확인한다.
+     */
+    public static boolean containsSyllable(String text) {
+        if (text == null) {
+            return false;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isChoseong(char c) {
+        return (c >= CONJOINING_CHOSEONG_BEGIN && c <= CONJOINING_CHOSEONG_END)
+                || new String(CHOSEONG).indexOf(c) >= 0;
+    }
+}
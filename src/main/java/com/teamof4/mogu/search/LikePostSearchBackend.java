@@ -0,0 +1,26 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIKE '%검색어%' 로 검색한다. 인덱스를 사용할 수 없어 게시글 수에 비례해 느려지므로 비교용으로만 사용한다.
+ * 관련도를 계산할 수 없어 항상 최신 게시글 순으로 정렬한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mogu.search.backend", havingValue = "like")
+public class LikePostSearchBackend implements PostSearchBackend {
+
+    private final PostRepository postRepository;
+
+    @Override
+    public Page<Long> search(String keyword, Long categoryId, boolean openedOnly, boolean recentFirst,
+                             Pageable pageable) {
+        return postRepository.searchIdsByKeyword(keyword, categoryId, openedOnly, pageable);
+    }
+}
@@ -0,0 +1,97 @@
+package com.teamof4.mogu.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글은 띄어쓰기 단위로 조사가 붙기 때문에 형태소 분석 없이도 부분 일치가 되도록
+ * 단어를 글자 단위 n-gram 으로 나눈다.
+ * 문서는 1-gram 과 2-gram 을 모두 색인하고, 검색어는 두 글자 이상이면 2-gram 만 사용한다.
+ * 초성이 섞인 검색어는 초성 n-gram 으로 바꿔 {@link #tokenizeChoseong(String)} 로 색인한 토큰과 비교한다.
+ */
+public final class NGramTokenizer {
+
+    private static final String SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 문서 색인용 토큰. 같은 토큰이 여러 번 나오면 그 횟수만큼 포함된다.
+     */
+    public static List<String> tokenizeDocument(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        for (String word : splitWords(text)) {
+            addDocumentTokens(tokens, word);
+        }
+
+        return tokens;
+    }
+
+    /**
+     * 초성 검색용 문서 토큰. 한글이 있는 단어만 초성으로 바꿔 n-gram 으로 나눈다.
+     */
+    public static List<String> tokenizeChoseong(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        for (String word : splitWords(text)) {
+            if (HangulUtils.containsSyllable(word) || HangulUtils.containsChoseong(word)) {
+                addDocumentTokens(tokens, HangulUtils.toChoseong(word));
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * 검색어용 토큰. 모든 토큰이 포함된 문서만 검색 결과가 된다.
+     */
+    public static Set<String> tokenizeQuery(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+
+        for (String word : splitWords(keyword)) {
+            if (HangulUtils.containsChoseong(word)) {
+                word = HangulUtils.toChoseong(word);
+            }
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+
+        return tokens;
+    }
+
+    private static void addDocumentTokens(List<String> tokens, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            tokens.add(word.substring(i, i + 1));
+            if (i + 1 < word.length()) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+    }
+
+    public static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : normalized.split(SEPARATOR)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+
+        return words;
+    }
+}
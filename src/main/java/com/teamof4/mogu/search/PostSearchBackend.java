@@ -0,0 +1,31 @@
+package com.teamof4.mogu.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 게시글 제목/내용 검색 방식.
+ * mogu.search.backend 설정값(ngram, fulltext, like)에 해당하는 구현체 하나만 등록된다.
+ */
+public interface PostSearchBackend {
+
+    /**
+     * 검색 결과 게시글 ID를 정렬된 순서대로 반환한다.
+     *
+     * @param openedOnly  true 면 모집 중인 프로젝트/스터디 게시글만 포함한다.
+     * @param recentFirst true 면 관련도와 상관없이 최신 게시글 순으로 정렬한다.
+     */
+    Page<Long> search(String keyword, Long categoryId, boolean openedOnly, boolean recentFirst, Pageable pageable);
+
+    /**
+     * 게시글 등록/수정 시 호출된다. DB를 직접 조회하는 방식은 따로 반영할 것이 없다.
+     */
+    default void index(Long postId, Long categoryId, String title, String content) {
+    }
+
+    default void updateOpenStatus(Long postId, boolean openStatus) {
+    }
+
+    default void remove(Long postId) {
+    }
+}
@@ -0,0 +1,266 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 제목/내용에 대한 메모리 역색인. 제목은 초성 n-gram 도 함께 색인한다.
+ * 검색 비용은 전체 게시글 수가 아니라 검색어 n-gram 의 게시글 목록 크기에 비례한다.
+ * 변경 사항은 트랜잭션이 커밋된 뒤에 반영된다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mogu.search.backend", havingValue = "ngram", matchIfMissing = true)
+public class PostSearchIndex implements PostSearchBackend {
+
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double TERM_SATURATION = 1.2;
+
+    private final PostRepository postRepository;
+
+    private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastPostId = 0L;
+        int count = 0;
+
+        Slice<SearchDocument> documents;
+        do {
+            documents = postRepository.findSearchDocuments(lastPostId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (SearchDocument document : documents) {
+                put(document.getPostId(), document.getCategoryId(),
+                        document.getTitle(), document.getContent(), document.getOpenStatus());
+                lastPostId = document.getPostId();
+                count++;
+            }
+        } while (documents.hasNext());
+
+        log.info("게시글 검색 색인 생성 완료. 게시글 수={}", count);
+    }
+
+    /**
+     * 게시글 등록/수정 시 호출한다. 이미 색인된 게시글이면 모집 여부는 유지한다.
+     */
+    @Override
+    public void index(Long postId, Long categoryId, String title, String content) {
+        AfterCommit.run(() -> put(postId, categoryId, title, content, null));
+    }
+
+    @Override
+    public void updateOpenStatus(Long postId, boolean openStatus) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                Entry entry = entries.get(postId);
+                if (entry != null) {
+                    entry.openStatus = openStatus;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void remove(Long postId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                removeTerms(postId);
+                entries.remove(postId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 검색어의 모든 n-gram 을 포함하는 게시글 ID를 관련도 순으로 반환한다.
+     * 관련도가 같으면 최신 게시글이 먼저 온다.
+     */
+    @Override
+    public Page<Long> search(String keyword, Long categoryId, boolean openedOnly, boolean recentFirst,
+                             Pageable pageable) {
+        Set<String> terms = NGramTokenizer.tokenizeQuery(keyword);
+        if (terms.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        List<ScoredPost> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Posting>> termPostings = new ArrayList<>();
+            List<Double> idfs = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, Posting> posting = postings.get(term);
+                if (posting == null) {
+                    return new PageImpl<>(Collections.emptyList(), pageable, 0);
+                }
+                termPostings.add(posting);
+                idfs.add(Math.log(1 + (double) entries.size() / posting.size()));
+            }
+
+            Map<Long, Posting> rarest = termPostings.stream()
+                    .min(Comparator.comparingInt(Map::size)).get();
+
+            for (Long postId : rarest.keySet()) {
+                Entry entry = entries.get(postId);
+                if (!entry.categoryId.equals(categoryId)
+                        || (openedOnly && !Boolean.TRUE.equals(entry.openStatus))) {
+                    continue;
+                }
+
+                double score = 0;
+                boolean matchesAll = true;
+                for (int i = 0; i < termPostings.size() && matchesAll; i++) {
+                    Posting posting = termPostings.get(i).get(postId);
+                    if (posting == null) {
+                        matchesAll = false;
+                    } else {
+                        score += idfs.get(i) * posting.score();
+                    }
+                }
+
+                if (matchesAll) {
+                    matches.add(new ScoredPost(postId, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<ScoredPost> recent = Comparator.comparing(ScoredPost::getPostId, Comparator.reverseOrder());
+        matches.sort(recentFirst ? recent
+                : Comparator.comparingDouble(ScoredPost::getScore).reversed().thenComparing(recent));
+
+        List<Long> pageContent = matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(ScoredPost::getPostId)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(pageContent, pageable, matches.size());
+    }
+
+    private void put(Long postId, Long categoryId, String title, String content, Boolean openStatus) {
+        Map<String, Posting> documentPostings = new HashMap<>();
+        for (String term : NGramTokenizer.tokenizeDocument(title)) {
+            documentPostings.computeIfAbsent(term, t -> new Posting()).titleCount++;
+        }
+        for (String term : NGramTokenizer.tokenizeChoseong(title)) {
+            documentPostings.computeIfAbsent(term, t -> new Posting()).titleCount++;
+        }
+        for (String term : NGramTokenizer.tokenizeDocument(content)) {
+            documentPostings.computeIfAbsent(term, t -> new Posting()).contentCount++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(postId);
+            if (previous != null) {
+                removeTerms(postId);
+                if (openStatus == null) {
+                    openStatus = previous.openStatus;
+                }
+            }
+
+            documentPostings.forEach((term, posting) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(postId, posting));
+            entries.put(postId, new Entry(categoryId, openStatus, new HashSet<>(documentPostings.keySet())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeTerms(Long postId) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            return;
+        }
+
+        for (String term : entry.terms) {
+            Map<Long, Posting> posting = postings.get(term);
+            posting.remove(postId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final Long categoryId;
+        private Boolean openStatus;
+        private final Set<String> terms;
+
+        private Entry(Long categoryId, Boolean openStatus, Set<String> terms) {
+            this.categoryId = categoryId;
+            this.openStatus = openStatus;
+            this.terms = terms;
+        }
+    }
+
+    private static class Posting {
+
+        private int titleCount;
+        private int contentCount;
+
+        /**
+         * 같은 n-gram 이 반복될수록 점수 증가 폭이 줄어든다. 제목에 포함된 경우 가중치를 준다.
+         */
+        private double score() {
+            return TITLE_WEIGHT * saturate(titleCount) + saturate(contentCount);
+        }
+
+        private static double saturate(int count) {
+            return count / (count + TERM_SATURATION);
+        }
+    }
+
+    private static class ScoredPost {
+
+        private final Long postId;
+        private final double score;
+
+        private ScoredPost(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+
+        private Long getPostId() {
+            return postId;
+        }
+
+        private double getScore() {
+            return score;
+        }
+    }
+}
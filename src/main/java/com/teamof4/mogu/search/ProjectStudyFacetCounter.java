@@ -0,0 +1,179 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.dto.ProjectStudyDto.FacetResponse;
+import com.teamof4.mogu.repository.PostSkillRepository;
+import com.teamof4.mogu.repository.ProjectStudyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트/스터디 게시글의 지역, 진행 방식, 기술 스택, 모집 여부별 게시글 수.
+ * 요청마다 GROUP BY 하지 않도록 등록/수정/삭제 시점에 증감해서 유지한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectStudyFacetCounter {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final ProjectStudyRepository projectStudyRepository;
+    private final PostSkillRepository postSkillRepository;
+
+    private final Map<Long, Facet> facetsByPostId = new HashMap<>();
+    private final Map<Long, Counts> countsByCategoryId = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastProjectStudyId = 0L;
+        Slice<Object[]> rows;
+        do {
+            rows = projectStudyRepository.findFacetRows(lastProjectStudyId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Object[] row : rows) {
+                lastProjectStudyId = (Long) row[0];
+                put((Long) row[1], new Facet((Long) row[2], (String) row[3], (String) row[4],
+                        (Boolean) row[5], new ArrayList<>()));
+            }
+        } while (rows.hasNext());
+
+        long lastPostSkillId = 0L;
+        do {
+            rows = postSkillRepository.findSkillIndexRows(lastPostSkillId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Object[] row : rows) {
+                lastPostSkillId = (Long) row[0];
+                addSkill((Long) row[1], (Long) row[4]);
+            }
+        } while (rows.hasNext());
+
+        log.info("프로젝트/스터디 집계 생성 완료. 게시글 수={}", facetsByPostId.size());
+    }
+
+    /**
+     * 게시글 등록 시 호출한다.
+     */
+    public void add(Long postId, Long categoryId, String region, String preferredMethod,
+                    boolean openStatus, Collection<Long> skillIds) {
+        Facet facet = new Facet(categoryId, region, preferredMethod, openStatus, new ArrayList<>(skillIds));
+        AfterCommit.run(() -> put(postId, facet));
+    }
+
+    /**
+     * 게시글 수정(모집 마감 포함) 시 호출한다. 기술 스택은 수정되지 않으므로 유지한다.
+     */
+    public void update(Long postId, String region, String preferredMethod, boolean openStatus) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                Facet previous = facetsByPostId.get(postId);
+                if (previous != null) {
+                    put(postId, new Facet(previous.categoryId, region, preferredMethod, openStatus, previous.skillIds));
+                }
+            }
+        });
+    }
+
+    public void remove(Long postId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                Facet previous = facetsByPostId.remove(postId);
+                if (previous != null) {
+                    apply(previous, -1);
+                }
+            }
+        });
+    }
+
+    /**
+     * 카테고리의 집계 결과. 게시글 수와 상관없이 집계 항목 수만큼의 복사 비용만 든다.
+     */
+    public synchronized FacetResponse getFacets(Long categoryId) {
+        Counts counts = countsByCategoryId.getOrDefault(categoryId, new Counts());
+
+        return FacetResponse.builder()
+                .region(new HashMap<>(counts.region))
+                .preferredMethod(new HashMap<>(counts.preferredMethod))
+                .skill(new HashMap<>(counts.skill))
+                .openedCount(counts.opened)
+                .closedCount(counts.closed)
+                .build();
+    }
+
+    private synchronized void put(Long postId, Facet facet) {
+        Facet previous = facetsByPostId.put(postId, facet);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        apply(facet, 1);
+    }
+
+    private synchronized void addSkill(Long postId, Long skillId) {
+        Facet facet = facetsByPostId.get(postId);
+        if (facet == null) {
+            return;
+        }
+
+        facet.skillIds.add(skillId);
+        increase(countsByCategoryId.get(facet.categoryId).skill, skillId, 1);
+    }
+
+    private void apply(Facet facet, int delta) {
+        Counts counts = countsByCategoryId.computeIfAbsent(facet.categoryId, id -> new Counts());
+
+        increase(counts.region, facet.region, delta);
+        increase(counts.preferredMethod, facet.preferredMethod, delta);
+        facet.skillIds.forEach(skillId -> increase(counts.skill, skillId, delta));
+        if (facet.openStatus) {
+            counts.opened += delta;
+        } else {
+            counts.closed += delta;
+        }
+    }
+
+    private static <K> void increase(Map<K, Long> counts, K key, int delta) {
+        if (key == null) {
+            return;
+        }
+
+        Long count = counts.merge(key, (long) delta, Long::sum);
+        if (count == 0) {
+            counts.remove(key);
+        }
+    }
+
+    private static class Facet {
+
+        private final Long categoryId;
+        private final String region;
+        private final String preferredMethod;
+        private final boolean openStatus;
+        private final List<Long> skillIds;
+
+        private Facet(Long categoryId, String region, String preferredMethod,
+                      Boolean openStatus, List<Long> skillIds) {
+            this.categoryId = categoryId;
+            this.region = region;
+            this.preferredMethod = preferredMethod;
+            this.openStatus = Boolean.TRUE.equals(openStatus);
+            this.skillIds = skillIds;
+        }
+    }
+
+    private static class Counts {
+
+        private final Map<String, Long> region = new HashMap<>();
+        private final Map<String, Long> preferredMethod = new HashMap<>();
+        private final Map<Long, Long> skill = new HashMap<>();
+        private long opened;
+        private long closed;
+    }
+}
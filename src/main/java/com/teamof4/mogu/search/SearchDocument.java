@@ -0,0 +1,25 @@
+package com.teamof4.mogu.search;
+
+import lombok.Getter;
+
+/**
+ * 검색 색인을 처음 구성할 때 게시글 엔티티 대신 조회하는 값.
+ * 커뮤니티 게시글은 모집 여부가 없으므로 openStatus 가 null 이다.
+ */
+@Getter
+public class SearchDocument {
+
+    private final Long postId;
+    private final Long categoryId;
+    private final String title;
+    private final String content;
+    private final Boolean openStatus;
+
+    public SearchDocument(Long postId, Long categoryId, String title, String content, Boolean openStatus) {
+        this.postId = postId;
+        this.categoryId = categoryId;
+        this.title = title;
+        this.content = content;
+        this.openStatus = openStatus;
+    }
+}
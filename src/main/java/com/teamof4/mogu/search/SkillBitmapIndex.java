@@ -0,0 +1,184 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.constants.SkillMatch;
+import com.teamof4.mogu.repository.PostSkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트/스터디 게시글의 기술 스택 필터용 비트맵 색인.
+ * 기술 스택, 카테고리, 모집 여부마다 게시글 ID 위치에 비트를 세워두고
+ * AND/OR 조건을 비트 연산으로 계산한 뒤 해당 페이지의 게시글만 DB에서 조회한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class SkillBitmapIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final PostSkillRepository postSkillRepository;
+
+    private final Map<Long, BitSet> skillBitmaps = new HashMap<>();
+    private final Map<Long, BitSet> categoryBitmaps = new HashMap<>();
+    private final BitSet openedBitmap = new BitSet();
+    private final Map<Long, List<Long>> skillIdsByPostId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastPostSkillId = 0L;
+
+        Slice<Object[]> rows;
+        do {
+            rows = postSkillRepository.findSkillIndexRows(lastPostSkillId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Object[] row : rows) {
+                lastPostSkillId = (Long) row[0];
+                put((Long) row[1], (Long) row[2], (Boolean) row[3], List.of((Long) row[4]));
+            }
+        } while (rows.hasNext());
+
+        log.info("기술 스택 비트맵 생성 완료. 게시글 수={}", skillIdsByPostId.size());
+    }
+
+    /**
+     * 프로젝트/스터디 게시글의 기술 스택이 저장될 때 호출한다.
+     */
+    public void add(Long postId, Long categoryId, boolean openStatus, Collection<Long> skillIds) {
+        List<Long> copied = new ArrayList<>(skillIds);
+        AfterCommit.run(() -> put(postId, categoryId, openStatus, copied));
+    }
+
+    public void updateOpenStatus(Long postId, boolean openStatus) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                if (skillIdsByPostId.containsKey(postId)) {
+                    openedBitmap.set(toIndex(postId), openStatus);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long postId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                List<Long> skillIds = skillIdsByPostId.remove(postId);
+                if (skillIds == null) {
+                    return;
+                }
+
+                int index = toIndex(postId);
+                skillIds.forEach(skillId -> skillBitmaps.get(skillId).clear(index));
+                categoryBitmaps.values().forEach(bitmap -> bitmap.clear(index));
+                openedBitmap.clear(index);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 조건에 맞는 게시글 ID를 최신 순으로 페이지만큼 반환한다.
+     */
+    public Page<Long> findPostIds(Long categoryId, boolean openedOnly, Collection<Long> skillIds,
+                                  SkillMatch match, Pageable pageable) {
+        BitSet matched = match(categoryId, openedOnly, skillIds, match);
+
+        List<Long> postIds = new ArrayList<>(pageable.getPageSize());
+        long skipped = 0;
+        for (int index = matched.length() - 1; index >= 0 && postIds.size() < pageable.getPageSize();
+             index = matched.previousSetBit(index - 1)) {
+            if (skipped++ < pageable.getOffset()) {
+                continue;
+            }
+            postIds.add((long) index);
+        }
+
+        return new PageImpl<>(postIds, pageable, matched.cardinality());
+    }
+
+    /**
+     * 순서를 유지한 채로 조건에 맞는 게시글 ID만 남긴다.
+     */
+    public List<Long> filter(List<Long> postIds, Long categoryId, boolean openedOnly,
+                             Collection<Long> skillIds, SkillMatch match) {
+        BitSet matched = match(categoryId, openedOnly, skillIds, match);
+
+        return postIds.stream()
+                .filter(postId -> matched.get(toIndex(postId)))
+                .collect(Collectors.toList());
+    }
+
+    private BitSet match(Long categoryId, boolean openedOnly, Collection<Long> skillIds, SkillMatch match) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = (BitSet) categoryBitmaps.getOrDefault(categoryId, new BitSet()).clone();
+            if (openedOnly) {
+                matched.and(openedBitmap);
+            }
+
+            BitSet skills = null;
+            for (Long skillId : skillIds) {
+                BitSet skillBitmap = skillBitmaps.getOrDefault(skillId, new BitSet());
+                if (skills == null) {
+                    skills = (BitSet) skillBitmap.clone();
+                } else if (match == SkillMatch.AND) {
+                    skills.and(skillBitmap);
+                } else {
+                    skills.or(skillBitmap);
+                }
+            }
+
+            if (skills != null) {
+                matched.and(skills);
+            }
+            return matched;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long postId, Long categoryId, Boolean openStatus, Collection<Long> skillIds) {
+        int index = toIndex(postId);
+
+        lock.writeLock().lock();
+        try {
+            categoryBitmaps.computeIfAbsent(categoryId, id -> new BitSet()).set(index);
+            openedBitmap.set(index, Boolean.TRUE.equals(openStatus));
+
+            List<Long> postSkillIds = skillIdsByPostId.computeIfAbsent(postId, id -> new ArrayList<>());
+            for (Long skillId : skillIds) {
+                skillBitmaps.computeIfAbsent(skillId, id -> new BitSet()).set(index);
+                postSkillIds.add(skillId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int toIndex(Long postId) {
+        return Math.toIntExact(postId);
+    }
+}
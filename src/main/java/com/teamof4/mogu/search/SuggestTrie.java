@@ -0,0 +1,114 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.dto.SuggestDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성용 트라이. 생성 후에는 변경하지 않으며, 각 노드마다 인기도 상위 maxSize 개의
+ * 자동완성 결과를 미리 계산해 두어 조회 비용이 접두어 길이에만 비례한다.
+ */
+public class SuggestTrie {
+
+    private static final Comparator<SuggestDto> BY_WEIGHT =
+            Comparator.comparingLong(SuggestDto::getWeight).reversed()
+                    .thenComparing(SuggestDto::getText);
+
+    private final Node root;
+
+    private SuggestTrie(Node root) {
+        this.root = root;
+    }
+
+    public static SuggestTrie empty() {
+        return new SuggestTrie(new Node());
+    }
+
+    public List<SuggestDto> suggest(String prefix, int size) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+
+        if (node == null || size <= 0) {
+            return Collections.emptyList();
+        }
+        return node.top.subList(0, Math.min(size, node.top.size()));
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public static class Builder {
+
+        private final Node root = new Node();
+        private final int maxSize;
+
+        public Builder(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * key 로 시작하는 접두어를 입력하면 suggestion 이 자동완성 결과에 포함된다.
+         */
+        public Builder add(String key, SuggestDto suggestion) {
+            String normalized = normalize(key);
+            if (normalized.isEmpty()) {
+                return this;
+            }
+
+            Node node = root;
+            for (int i = 0; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), c -> new Node());
+            }
+            node.top.add(suggestion);
+            return this;
+        }
+
+        public SuggestTrie build() {
+            collectTop(root);
+            return new SuggestTrie(root);
+        }
+
+        /**
+         * 하위 노드의 상위 결과와 자기 노드의 결과를 합쳐 상위 maxSize 개만 남긴다.
+         * 같은 결과가 여러 키로 등록된 경우 한 번만 남긴다.
+         */
+        private void collectTop(Node node) {
+            Map<String, SuggestDto> candidates = new LinkedHashMap<>();
+            node.top.forEach(suggestion -> candidates.putIfAbsent(keyOf(suggestion), suggestion));
+
+            for (Node child : node.children.values()) {
+                collectTop(child);
+                child.top.forEach(suggestion -> candidates.putIfAbsent(keyOf(suggestion), suggestion));
+            }
+
+            List<SuggestDto> top = new ArrayList<>(candidates.values());
+            top.sort(BY_WEIGHT);
+            node.top = Collections.unmodifiableList(new ArrayList<>(top.subList(0, Math.min(maxSize, top.size()))));
+        }
+
+        private static String keyOf(SuggestDto suggestion) {
+            return suggestion.getType() + ":" + suggestion.getId();
+        }
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private List<SuggestDto> top = new ArrayList<>();
+    }
+}
@@ -0,0 +1,178 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.dto.CorrectionDto;
+import com.teamof4.mogu.dto.SuggestDto;
+import com.teamof4.mogu.repository.PostRepository;
+import com.teamof4.mogu.repository.SkillRepository;
+import com.teamof4.mogu.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.teamof4.mogu.constants.SuggestType.SKILL;
+import static com.teamof4.mogu.constants.SuggestType.TITLE;
+import static com.teamof4.mogu.constants.SuggestType.USER;
+
+/**
+ * 기술 스택 이름, 인기 프로젝트/스터디 제목, 회원 닉네임 자동완성.
+ * 조회는 메모리의 트라이만 사용하고, 게시글이나 닉네임이 변경되면 다음 주기에 트라이를 새로 만들어 교체한다.
+ * 한글은 초성 키도 함께 등록해 "ㅅㅍㄹ" 로 "스프링" 을 찾을 수 있다.
+ * 기술 스택 이름과 제목 단어는 오타 교정용 BK-tree 에도 등록한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndex {
+
+    public static final int MAX_SUGGEST_SIZE = 10;
+    private static final int POPULAR_TITLE_COUNT = 2000;
+    private static final int MIN_CORRECTION_LENGTH = 2;
+
+    private final SkillRepository skillRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile Snapshot snapshot = new Snapshot(SuggestTrie.empty(), new BkTree());
+
+    /**
+     * 접두어로 찾은 결과가 없으면 오타로 보고 가장 가까운 교정어의 자동완성 결과를 반환한다.
+     */
+    public List<SuggestDto> suggest(String prefix, int size) {
+        Snapshot current = snapshot;
+        int limit = clampSize(size);
+
+        String key = HangulUtils.containsChoseong(prefix) ? HangulUtils.toChoseong(prefix) : prefix;
+        List<SuggestDto> suggestions = current.trie.suggest(key, limit);
+        if (!suggestions.isEmpty() || HangulUtils.containsChoseong(prefix)) {
+            return suggestions;
+        }
+
+        return correct(current, prefix, 1).stream()
+                .findFirst()
+                .map(correction -> current.trie.suggest(correction.getText(), limit))
+                .orElse(suggestions);
+    }
+
+    /**
+     * 기술 스택 이름과 제목 단어 중 편집 거리가 가까운 교정어. 짧은 단어일수록 허용 거리가 작다.
+     */
+    public List<CorrectionDto> correct(String keyword, int size) {
+        return correct(snapshot, keyword, clampSize(size));
+    }
+
+    /**
+     * 요청한 개수를 1 ~ MAX_SUGGEST_SIZE 로 맞춘다.
+     */
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SUGGEST_SIZE));
+    }
+
+    private List<CorrectionDto> correct(Snapshot current, String keyword, int size) {
+        String word = keyword == null ? "" : keyword.strip();
+        if (word.length() < MIN_CORRECTION_LENGTH) {
+            return List.of();
+        }
+
+        int maxDistance = word.length() <= 5 ? 1 : 2;
+        return current.vocabulary.search(word, maxDistance, size);
+    }
+
+    /**
+     * 게시글 등록/수정/삭제, 회원 가입/정보 수정/탈퇴 시 호출한다.
+     * 커밋 전에 다시 만들면 변경 전 데이터로 만든 트라이가 다음 변경까지 남으므로 커밋 후에 표시한다.
+     */
+    public void markDirty() {
+        AfterCommit.run(() -> dirty.set(true));
+    }
+
+    @Scheduled(fixedDelayString = "${mogu.suggest.refresh-interval-ms:10000}")
+    public void refresh() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+
+        try {
+            snapshot = build();
+        } catch (RuntimeException exception) {
+            dirty.set(true);
+            log.warn("자동완성 트라이 생성에 실패했습니다. 다음 주기에 다시 시도합니다.", exception);
+        }
+    }
+
+    private Snapshot build() {
+        SuggestTrie.Builder builder = new SuggestTrie.Builder(MAX_SUGGEST_SIZE);
+        BkTree vocabulary = new BkTree();
+
+        for (Object[] row : skillRepository.findAllWithUsageCount()) {
+            String skillName = (String) row[1];
+            long usageCount = ((Number) row[2]).longValue();
+            add(builder, skillName, SuggestDto.builder()
+                    .type(SKILL)
+                    .id((Long) row[0])
+                    .text(skillName)
+                    .weight(usageCount).build());
+            vocabulary.add(skillName, usageCount + 1);
+        }
+
+        for (Object[] row : userRepository.findAllNicknamesWithPostCount()) {
+            String nickname = (String) row[1];
+            add(builder, nickname, SuggestDto.builder()
+                    .type(USER)
+                    .id((Long) row[0])
+                    .text(nickname)
+                    .weight(((Number) row[2]).longValue()).build());
+        }
+
+        for (Object[] row : postRepository.findPopularProjectStudyTitles(PageRequest.of(0, POPULAR_TITLE_COUNT))) {
+            String title = (String) row[1];
+            SuggestDto suggestion = SuggestDto.builder()
+                    .type(TITLE)
+                    .id((Long) row[0])
+                    .text(title)
+                    .weight(((Number) row[2]).longValue()).build();
+
+            // 제목 중간 단어로 입력해도 찾을 수 있도록 단어마다 시작 위치를 키로 등록한다.
+            for (int start = 0; start < title.length(); start++) {
+                if (start == 0 || (Character.isWhitespace(title.charAt(start - 1))
+                        && !Character.isWhitespace(title.charAt(start)))) {
+                    add(builder, title.substring(start), suggestion);
+                }
+            }
+
+            for (String word : NGramTokenizer.splitWords(title)) {
+                if (word.length() >= MIN_CORRECTION_LENGTH) {
+                    vocabulary.add(word, 1);
+                }
+            }
+        }
+
+        return new Snapshot(builder.build(), vocabulary);
+    }
+
+    private static void add(SuggestTrie.Builder builder, String key, SuggestDto suggestion) {
+        builder.add(key, suggestion);
+        if (HangulUtils.containsSyllable(key)) {
+            builder.add(HangulUtils.toChoseong(key), suggestion);
+        }
+    }
+
+    /**
+     * 트라이와 BK-tree 를 함께 교체해 조회 중에 서로 다른 시점의 데이터를 보지 않도록 한다.
+     */
+    private static class Snapshot {
+
+        private final SuggestTrie trie;
+        private final BkTree vocabulary;
+
+        private Snapshot(SuggestTrie trie, BkTree vocabulary) {
+            this.trie = trie;
+            this.vocabulary = vocabulary;
+        }
+    }
+}
@@ -19,11 +19,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -39,12 +39,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             //요청에서 토큰 가져오기
             String token = parsBearerToken(request);
-            log.info("-JwtFilter 동작 중-");
 
             // 토큰 검사하기 및 시큐리티 등록
             if (token != null && !token.equalsIgnoreCase("null")) {
                 Long userId = Long.parseLong(tokenProvider.validateAndGetUserId(token));
-                log.info("인증된 userId : " + userId);
+                log.debug("인증된 userId : {}", userId);
 
                 //인증 완료 : SecurityContextHolder 에 등록해야 인증된 사용자로 판단
                 AbstractAuthenticationToken authenticationToken =
@@ -80,8 +79,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             token = Arrays
                     .stream(httpServletRequest.getCookies())
                     .filter(cookie -> cookie.getName().equals("access-token"))
-                    .collect(Collectors.toList())
-                    .get(0).getValue();
+                    .findFirst()
+                    .map(Cookie::getValue)
+                    .orElse(null);
         }
 
         return token;
@@ -1,26 +1,54 @@
 package com.teamof4.mogu.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.teamof4.mogu.dto.CacheStatsDto;
 import com.teamof4.mogu.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Service
 public class TokenProvider {
 
     private static final String SECRET_KEY = "DJFI!@fdasaf()#sdfjiosdf2&^%$#EDFGHHGs";
+    private static final String VERIFIED_TOKEN_REGION = "jwt.verified-token";
 
-    Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+
+    // JwtParser 는 생성 후 변경되지 않으므로 모든 요청에서 함께 사용한다.
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+
+    // 서명 검증을 통과한 토큰. 같은 토큰 문자열이면 다시 검증하지 않는다.
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final LongAdder verifiedTokenPuts = new LongAdder();
+
+    public TokenProvider(@Value("${mogu.jwt.verified-token-cache.max-size:10000}") long maxSize,
+                         @Value("${mogu.jwt.verified-token-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
 
     /**
      * 사용자 정보를 받아서 JWT 토큰 생성
@@ -42,14 +70,40 @@ public class TokenProvider {
     /**
      * 사용자로부터 토큰을 받아와 그 토큰을 가진 사용자 id 추출한다.
      * 토큰을 디코딩 및 파싱하여 도큰의 위조 여부를 확인하는 작업
+     * 이미 검증한 토큰은 만료 시각만 확인한다. 만료되었으면 다시 파싱해 ExpiredJwtException 이 발생하게 한다.
      */
     public String validateAndGetUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY.getBytes(StandardCharsets.UTF_8))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        VerifiedToken verified = verifiedTokens.getIfPresent(token);
+        if (verified != null && verified.expiresAt > System.currentTimeMillis()) {
+            return verified.userId;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()));
+            verifiedTokenPuts.increment();
+        }
 
         return claims.getSubject();
     }
+
+    public CacheStatsDto getVerifiedTokenStatistics() {
+        CacheStats stats = verifiedTokens.stats();
+
+        return CacheStatsDto.builder()
+                .region(VERIFIED_TOKEN_REGION)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .putCount(verifiedTokenPuts.sum())
+                .elementCount(verifiedTokens.estimatedSize())
+                .hitRatio(stats.hitRate()).build();
+    }
+
+    @RequiredArgsConstructor
+    private static class VerifiedToken {
+
+        private final String userId;
+        private final long expiresAt;
+    }
 }
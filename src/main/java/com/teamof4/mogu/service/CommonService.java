@@ -1,28 +1,47 @@
 package com.teamof4.mogu.service;
 
-import com.teamof4.mogu.entity.Category;
-import com.teamof4.mogu.entity.Skill;
-import com.teamof4.mogu.repository.CategoryRepository;
-import com.teamof4.mogu.repository.SkillRepository;
+import com.teamof4.mogu.cache.ReferenceDataCache;
+import com.teamof4.mogu.cache.SecondLevelCacheStatistics;
+import com.teamof4.mogu.cache.SerializedJson;
+import com.teamof4.mogu.dto.CacheStatsDto;
+import com.teamof4.mogu.dto.CorrectionDto;
+import com.teamof4.mogu.dto.SuggestDto;
+import com.teamof4.mogu.search.SuggestionIndex;
+import com.teamof4.mogu.security.TokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommonService {
 
-    private final CategoryRepository categoryRepository;
-    private final SkillRepository skillRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final SuggestionIndex suggestionIndex;
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+    private final TokenProvider tokenProvider;
 
-    public List<Category> getCategoryList() {
-        return categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+    public SerializedJson getCategoryList() {
+        return referenceDataCache.getCategoryJson();
     }
 
-    public List<Skill> getSkillList() {
-        return skillRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+    public SerializedJson getSkillList() {
+        return referenceDataCache.getSkillJson();
     }
 
+    public List<SuggestDto> getSuggestions(String keyword, int size) {
+        return suggestionIndex.suggest(keyword, size);
+    }
+
+    public List<CorrectionDto> getCorrections(String keyword, int size) {
+        return suggestionIndex.correct(keyword, size);
+    }
+
+    public List<CacheStatsDto> getCacheStatistics() {
+        List<CacheStatsDto> statistics = new ArrayList<>(secondLevelCacheStatistics.getRegionStatistics());
+        statistics.add(tokenProvider.getVerifiedTokenStatistics());
+        return statistics;
+    }
 }
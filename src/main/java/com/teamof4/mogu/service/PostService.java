@@ -1,27 +1,50 @@
 package com.teamof4.mogu.service;
 
+import com.teamof4.mogu.cache.LikedPostCache;
+import com.teamof4.mogu.cache.ListPageCache;
+import com.teamof4.mogu.cache.PostDetailCache;
+import com.teamof4.mogu.cache.ResponseBodyCache;
+import com.teamof4.mogu.cache.SerializedJson;
+import com.teamof4.mogu.cache.PostDetailCache.Cached;
+import com.teamof4.mogu.cache.PostVersionRegistry;
+import com.teamof4.mogu.cache.ReferenceDataCache;
 import com.teamof4.mogu.constants.SortStatus;
+import com.teamof4.mogu.dto.CursorDto;
+import com.teamof4.mogu.dto.CursorDto.SliceResponse;
 import com.teamof4.mogu.dto.LikeDto;
 import com.teamof4.mogu.dto.PostDto;
+import com.teamof4.mogu.dto.PostDto.SummaryResponse;
 import com.teamof4.mogu.entity.*;
 import com.teamof4.mogu.exception.post.CategoryNotFoundException;
-import com.teamof4.mogu.exception.post.LikeNotFoundException;
 import com.teamof4.mogu.exception.post.PostNotFoundException;
 import com.teamof4.mogu.exception.post.ReplyNotFoundException;
 import com.teamof4.mogu.exception.user.UserNotFoundException;
 import com.teamof4.mogu.exception.user.UserNotMatchException;
 import com.teamof4.mogu.repository.*;
+import com.teamof4.mogu.search.PostSearchBackend;
+import com.teamof4.mogu.search.ProjectStudyFacetCounter;
+import com.teamof4.mogu.search.SkillBitmapIndex;
+import com.teamof4.mogu.search.SuggestionIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.teamof4.mogu.constants.SortStatus.*;
@@ -32,41 +55,193 @@ import static com.teamof4.mogu.dto.ReplyDto.*;
 @RequiredArgsConstructor
 public class PostService {
 
+    // 상세 응답과 댓글 페이지에 담는 댓글 수의 상한. 상세 응답은 값마다 캐시 키가 따로 생기므로 범위를 제한한다.
+    static final int MAX_REPLY_SIZE = 50;
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final LikeRepository likeRepository;
     private final ReplyRepository replyRepository;
+    private final ViewCountService viewCountService;
+    private final PostSearchBackend postSearchBackend;
+    private final SkillBitmapIndex skillBitmapIndex;
+    private final ProjectStudyFacetCounter projectStudyFacetCounter;
+    private final SuggestionIndex suggestionIndex;
+    private final PostDetailCache postDetailCache;
+    private final PostVersionRegistry postVersionRegistry;
+    private final ListPageCache listPageCache;
+    private final LikedPostCache likedPostCache;
+    private final ResponseBodyCache responseBodyCache;
+
+    /**
+     * 게시글 상세/리스트 ETag. DB를 조회하지 않으므로 응답을 만들기 전에 If-None-Match 와 비교한다.
+     */
+    public String getPostEtag(Long postId, Long currentUserId) {
+        return postVersionRegistry.getPostEtag(postId, currentUserId);
+    }
+
+    String getPostEtag(Long postId, long version, Long currentUserId) {
+        return postVersionRegistry.getPostEtag(postId, version, currentUserId);
+    }
+
+    public String getListEtag(Long categoryId, Long currentUserId) {
+        return postVersionRegistry.getCategoryEtag(categoryId, currentUserId);
+    }
 
-    public Page<PostDto.Response> getPostList(Long categoryId, Pageable pageable,
-                                              Long currentUserId, SortStatus status) {
+    /**
+     * 앞쪽 페이지는 모든 유저가 같은 캐시를 사용하고 좋아요 여부만 덧씌운다.
+     */
+    public Page<SummaryResponse> getPostList(Long categoryId, Pageable pageable,
+                                             Long currentUserId, SortStatus status) {
 
-        Page<Post> posts = new PageImpl<>(Collections.emptyList());
         Category category = getCategory(categoryId);
+        Page<SummaryResponse> posts = listPageCache.getPage(SummaryResponse.class, category.getId(), status.name(),
+                pageable, () -> findPostList(category, pageable, status));
+
+        return new PageImpl<>(applyLikeStatus(posts.getContent(), currentUserId), pageable, posts.getTotalElements());
+    }
+
+    /**
+     * 비로그인 유저의 리스트 응답. 같은 ETag 동안 직렬화한 JSON 을 재사용한다.
+     */
+    public SerializedJson getPostListJson(Long categoryId, Pageable pageable, SortStatus status) {
+        return responseBodyCache.get("post-list:" + categoryId + ":" + status + ":" + pageable,
+                getListEtag(categoryId, null), () -> getPostList(categoryId, pageable, null, status));
+    }
+
+    private Page<SummaryResponse> findPostList(Category category, Pageable pageable, SortStatus status) {
+
+        Page<SummaryResponse> posts = new PageImpl<>(Collections.emptyList());
 
         if (status.equals(DEFAULT)) {
-            posts = postRepository.findAll(pageable, category);
+            posts = postRepository.findAllSummaries(pageable, category);
         } else if(status.equals(LIKES)) {
-            posts = postRepository.findAllLikesDesc(pageable, category);
+            posts = postRepository.findAllSummariesLikesDesc(pageable, category);
         }
 
-        return new PageImpl<>(entityToListDto(posts, currentUserId), pageable, posts.getTotalElements());
+        return posts;
+    }
+
+    /**
+     * 검색 색인으로 찾은 게시글 ID 순서대로 리스트를 구성한다.
+     * RELEVANCE 는 관련도 순, 그 외에는 최신 순으로 정렬한다.
+     */
+    public Page<SummaryResponse> searchPostList(Long categoryId, String keyword, Pageable pageable,
+                                                Long currentUserId, SortStatus status) {
+
+        Category category = getCategory(categoryId);
+        Page<Long> postIds = postSearchBackend.search(
+                keyword, category.getId(), false, !status.equals(RELEVANCE), pageable);
+
+        List<SummaryResponse> posts = Collections.emptyList();
+        if (!postIds.isEmpty()) {
+            Map<Long, SummaryResponse> summaries = postRepository.findAllSummariesByIds(postIds.getContent()).stream()
+                    .collect(Collectors.toMap(SummaryResponse::getId, Function.identity()));
+
+            posts = postIds.getContent().stream()
+                    .map(summaries::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        return new PageImpl<>(applyLikeStatus(posts, currentUserId), pageable, postIds.getTotalElements());
+    }
+
+    public SliceResponse<SummaryResponse> getPostListByCursor(Long categoryId, String cursor,
+                                                              int size, Long currentUserId) {
+
+        Category category = getCategory(categoryId);
+        Long lastPostId = CursorDto.decode(cursor);
+        Supplier<Slice<SummaryResponse>> loader =
+                () -> postRepository.findAllSummariesByCursor(category, lastPostId, PageRequest.of(0, size));
+
+        Slice<SummaryResponse> posts = (cursor == null || cursor.isBlank())
+                ? listPageCache.getFirstSlice(SummaryResponse.class, category.getId(), DEFAULT.name(), size, loader)
+                : loader.get();
+
+        return new SliceResponse<>(
+                new SliceImpl<>(applyLikeStatus(posts.getContent(), currentUserId), posts.getPageable(), posts.hasNext()),
+                SummaryResponse::getId);
     }
 
     public PostDto.Response getPostDetails(Long postId, Long currentUserId) {
+        return getPostDetails(postId, currentUserId, null);
+    }
+
+    /**
+     * replySize 가 주어지면 전체 댓글 트리 대신 최상위 댓글 첫 페이지만 담는다.
+     * 캐시된 응답에 좋아요 여부와 최신 조회수만 덧씌운다.
+     */
+    public PostDto.Response getPostDetails(Long postId, Long currentUserId, Integer replySize) {
+
+        Cached<PostDto.Response> cached = getCachedPostDetails(postId, clampReplySize(replySize));
+
+        if (!cached.getValue().getUserId().equals(currentUserId)) {
+            viewCountService.increase(postId);
+        }
+
+        return withViewer(cached, postId, currentUserId);
+    }
+
+    /**
+     * 비로그인 유저의 상세 응답. 같은 ETag 동안 직렬화한 JSON 을 재사용하고 조회수만 센다.
+     * ETag 는 캐시된 응답의 버전으로 만들어, 그 사이에 변경이 커밋되어도 이전 본문이 새 ETag 로 저장되지 않게 한다.
+     */
+    public SerializedJson getPostDetailsJson(Long postId, Integer requestedReplySize) {
+
+        Integer replySize = clampReplySize(requestedReplySize);
+        Cached<PostDto.Response> cached = getCachedPostDetails(postId, replySize);
+        viewCountService.increase(postId);
+
+        return responseBodyCache.get("post:" + postId + ":" + replySize, getPostEtag(postId, cached.getVersion(), null),
+                () -> withViewer(cached, postId, null));
+    }
+
+    /**
+     * replySize 를 1 ~ MAX_REPLY_SIZE 로 맞춘다. null 은 전체 댓글 트리를 뜻하므로 그대로 둔다.
+     */
+    static Integer clampReplySize(Integer replySize) {
+        if (replySize == null) {
+            return null;
+        }
+        return Math.max(1, Math.min(replySize, MAX_REPLY_SIZE));
+    }
+
+    private Cached<PostDto.Response> getCachedPostDetails(Long postId, Integer replySize) {
+        return postDetailCache.get(PostDto.Response.class, postId, replySize,
+                () -> loadPostDetails(postId, replySize));
+    }
+
+    private PostDto.Response withViewer(Cached<PostDto.Response> cached, Long postId, Long currentUserId) {
+        PostDto.Response details = cached.getValue();
+
+        return details.withViewer(
+                details.getView() + viewCountService.getPendingCount(postId, cached.getViewMark()),
+                isLikedByCurrentUser(currentUserId, postId));
+    }
+
+    /**
+     * 유저와 상관없는 상세 응답. 좋아요 여부는 false, 조회수는 DB에 반영된 값이다.
+     */
+    private PostDto.Response loadPostDetails(Long postId, Integer replySize) {
 
         Post post = getPost(postId);
 
-        if (!post.getUser().getId().equals(currentUserId)) {
-            post.addViewCount(post.getView());
-            postRepository.save(post);
+        List<Response> replies;
+        String replyNextCursor = null;
+        if (replySize == null) {
+            replies = getReplyTree(postId);
+        } else {
+            SliceResponse<Response> replyPage = findReplyPage(postId, null, replySize);
+            replies = replyPage.getContent();
+            replyNextCursor = replyPage.getNextCursor();
         }
 
         return PostDto.Response.builder()
                 .post(post)
-                .replies(replyConvertToDto(getReplies(post)))
-                .isLiked(isLikedByCurrentUser(currentUserId, post)).build();
+                .replies(replies)
+                .replyNextCursor(replyNextCursor).build();
 
     }
 
@@ -76,6 +251,9 @@ public class PostService {
         Post post = requestDTO.toEntity(getUser(currentUserId), getCategory(requestDTO.getCategoryId()));
 
         postRepository.save(post);
+        postSearchBackend.index(post.getId(), post.getCategory().getId(), post.getTitle(), post.getContent());
+        suggestionIndex.markDirty();
+        postVersionRegistry.postChanged(post.getId(), post.getCategory().getId());
 
         return post.getId();
 
@@ -94,6 +272,9 @@ public class PostService {
         post.updatePost(requestDTO.getTitle(), requestDTO.getContent());
 
         postRepository.save(post);
+        postSearchBackend.index(post.getId(), post.getCategory().getId(), post.getTitle(), post.getContent());
+        suggestionIndex.markDirty();
+        postVersionRegistry.postChanged(post.getId(), post.getCategory().getId());
 
         return post.getId();
     }
@@ -110,28 +291,38 @@ public class PostService {
         post.changeStatus();
 
         postRepository.save(post);
+        postSearchBackend.remove(post.getId());
+        skillBitmapIndex.remove(post.getId());
+        projectStudyFacetCounter.remove(post.getId());
+        suggestionIndex.markDirty();
+        postVersionRegistry.postChanged(post.getId(), post.getCategory().getId());
     }
 
+    @Transactional
     public LikeDto likeProcess(Long postId, Long currentUserId) {
 
-        User user = getUser(currentUserId);
-        Post post = getPost(postId);
+        // INSERT IGNORE 는 외래 키 위반도 경고로 바꾸므로 회원이 없는 경우를 먼저 확인한다.
+        getUser(currentUserId);
 
         boolean likeStatus = false;
-        if (!isLiked(user, post)) {
-            likeRepository.save(Like.builder()
-                    .user(user)
-                    .post(post).build());
+        if (likeRepository.deleteByUserIdAndPostId(currentUserId, postId) > 0) {
+            postRepository.updateLikeCount(postId, -1);
+        } else if (likeRepository.insertIgnore(currentUserId, postId) > 0) {
+            postRepository.updateLikeCount(postId, 1);
+            likeStatus = true;
+        } else if (postRepository.existsById(postId)) {
+            // 동시에 들어온 다른 요청이 먼저 좋아요를 추가한 경우
             likeStatus = true;
         } else {
-            Like like = likeRepository.findByUserAndPost(user, post)
-                    .orElseThrow(() -> new LikeNotFoundException("좋아요를 누른 게시물이 없습니다."));
-            likeRepository.delete(like);
+            throw new PostNotFoundException("존재하지 않는 게시글입니다.");
         }
 
+        postVersionRegistry.postChanged(postId, postRepository.findCategoryIdById(postId));
+        likedPostCache.likeChanged(currentUserId);
+
         return LikeDto.builder()
                 .likeStatus(likeStatus)
-                .count(likeRepository.countByPost(post)).build();
+                .count(postRepository.findLikeCountById(postId)).build();
     }
 
     public Long saveSuperReply(Long currentUserId, SuperRequest dto) {
@@ -139,6 +330,7 @@ public class PostService {
         Reply reply = Reply.createReply(getPost(dto.getPostId()), getUser(currentUserId), dto.getContent());
 
         replyRepository.save(reply);
+        postVersionRegistry.postChanged(dto.getPostId());
         return reply.getId();
     }
 
@@ -156,6 +348,7 @@ public class PostService {
         }
 
         replyRepository.save(reply);
+        postVersionRegistry.postChanged(parentReply.getPost().getId());
         return reply.getId();
     }
 
@@ -170,6 +363,7 @@ public class PostService {
         reply.updateReply(dto.getContent());
 
         replyRepository.save(reply);
+        postVersionRegistry.postChanged(reply.getPost().getId());
 
         return reply.getId();
     }
@@ -184,31 +378,52 @@ public class PostService {
 
         reply.changeDeleteStatus();
         replyRepository.save(reply);
+        postVersionRegistry.postChanged(reply.getPost().getId());
     }
 
-    private boolean isLiked(User user, Post post) {
-        return likeRepository.findByUserAndPost(user, post).isPresent();
+    public boolean isLikedByCurrentUser(Long currentUserId, Long postId) {
+        return getLikedPostIds(currentUserId, List.of(postId)).contains(postId);
     }
 
-    public boolean isLikedByCurrentUser(Long currentUserId, Post post) {
-        boolean isLiked = false;
-
-        if (currentUserId != null && isLiked(getUser(currentUserId), post)) {
-            isLiked = true;
+    /**
+     * postIds 중 현재 유저가 좋아요를 누른 게시글 ID. 유저별 좋아요 목록 캐시에서 찾으므로
+     * 리스트 조회 시 게시글마다 좋아요 여부를 조회하지 않는다.
+     */
+    public Set<Long> getLikedPostIds(Long currentUserId, List<Long> postIds) {
+        if (currentUserId == null || postIds.isEmpty()) {
+            return Collections.emptySet();
         }
 
-        return isLiked;
+        Set<Long> likedPostIds = likedPostCache.getLikedPostIds(currentUserId);
+        return postIds.stream()
+                .filter(likedPostIds::contains)
+                .collect(Collectors.toSet());
     }
 
-    private List<PostDto.Response> entityToListDto(Page<Post> posts, Long currentUserId) {
+    private List<SummaryResponse> applyLikeStatus(List<SummaryResponse> posts, Long currentUserId) {
+        Set<Long> likedPostIds = getLikedPostIds(currentUserId,
+                posts.stream().map(SummaryResponse::getId).collect(Collectors.toList()));
+
         return posts.stream()
-                .map(post -> PostDto.Response.builder()
-                        .post(post)
-                        .isLiked(isLikedByCurrentUser(currentUserId, post)).build())
+                .map(post -> post.withLikeStatus(likedPostIds.contains(post.getId())))
                 .collect(Collectors.toList());
     }
 
-    public List<Response> replyConvertToDto(List<Reply> replies) {
+    /**
+     * 게시글의 댓글을 작성자와 함께 한 번에 조회한 뒤 메모리에서 댓글 트리를 구성한다.
+     * 작성 순서로 정렬되어 있으므로 부모 댓글의 자식 목록도 작성 순서를 유지한다.
+     */
+    public List<Response> getReplyTree(Long postId) {
+        List<Reply> replies = replyRepository.findAllWithUsersByPostId(postId);
+
+        Map<Long, Long> childCounts = new HashMap<>();
+        for (Reply reply : replies) {
+            if (reply.getParentReply() != null) {
+                childCounts.merge(reply.getParentReply().getId(), 1L, Long::sum);
+            }
+        }
+
+        Map<Long, List<Response>> childrenByReplyId = new HashMap<>();
         List<Response> responseList = new ArrayList<>();
 
         for (Reply reply : replies) {
@@ -217,28 +432,81 @@ public class PostService {
                 targetUserNickname = reply.getParentUser().getNickname();
             }
 
-            List<Response> children = new ArrayList<>();
-            if (!reply.getChildren().isEmpty()) {
-                children = replyConvertToDto(reply.getChildren());
-            }
+            List<Response> children = childrenByReplyId.computeIfAbsent(reply.getId(), id -> new ArrayList<>());
+
             Response response = Response.builder()
                     .reply(reply).targetNickname(targetUserNickname)
                     .children(children)
+                    .childCount(childCounts.getOrDefault(reply.getId(), 0L))
                     .build();
 
-            responseList.add(response);
+            if (reply.getParentReply() == null) {
+                responseList.add(response);
+            } else {
+                childrenByReplyId.computeIfAbsent(reply.getParentReply().getId(), id -> new ArrayList<>())
+                        .add(response);
+            }
         }
 
         return responseList;
     }
 
+    /**
+     * 최상위 댓글을 작성 순서대로 커서 기반으로 조회한다. 대댓글은 포함하지 않고 대댓글 수만 담는다.
+     * 없거나 삭제된 게시글이면 상세 조회와 같이 PostNotFoundException 이 발생한다.
+     */
+    public SliceResponse<Response> getReplyPage(Long postId, String cursor, int size) {
+        getPost(postId);
+        return findReplyPage(postId, cursor, clampReplySize(size));
+    }
+
+    /**
+     * 게시글을 이미 조회한 상세 응답에서 사용한다.
+     */
+    SliceResponse<Response> findReplyPage(Long postId, String cursor, int size) {
+        Slice<Reply> replies = replyRepository.findSuperRepliesByCursor(
+                postId, CursorDto.decode(cursor, 0L), PageRequest.of(0, size));
+
+        Map<Long, Long> childCounts = new HashMap<>();
+        if (!replies.getContent().isEmpty()) {
+            List<Long> replyIds = replies.getContent().stream().map(Reply::getId).collect(Collectors.toList());
+            for (Object[] row : replyRepository.countChildrenByParentReplyIds(replyIds)) {
+                childCounts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+
+        return new SliceResponse<>(
+                replies.map(reply -> toReplyResponse(reply, childCounts.getOrDefault(reply.getId(), 0L))),
+                Response::getId);
+    }
+
+    public SliceResponse<Response> getChildReplyPage(Long parentReplyId, String cursor, int size) {
+        Slice<Reply> replies = replyRepository.findChildRepliesByCursor(
+                parentReplyId, CursorDto.decode(cursor, 0L), PageRequest.of(0, clampReplySize(size)));
+
+        return new SliceResponse<>(replies.map(reply -> toReplyResponse(reply, 0L)), Response::getId);
+    }
+
+    private Response toReplyResponse(Reply reply, long childCount) {
+        String targetUserNickname = "";
+        if (reply.getParentUser() != null) {
+            targetUserNickname = reply.getParentUser().getNickname();
+        }
+
+        return Response.builder()
+                .reply(reply).targetNickname(targetUserNickname)
+                .children(Collections.emptyList())
+                .childCount(childCount)
+                .build();
+    }
+
     public User getUser(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("존재하지 않는 회원입니다."));
     }
 
     public Category getCategory(Long categoryId) {
-        return categoryRepository.findById(categoryId)
+        return referenceDataCache.findCategory(categoryId)
                 .orElseThrow(() -> new CategoryNotFoundException("존재하지 않는 카테고리입니다."));
     }
 
@@ -251,10 +519,4 @@ public class PostService {
         return replyRepository.findById(replyId)
                 .orElseThrow(() -> new ReplyNotFoundException("댓글이 존재하지 않습니다."));
     }
-
-    public List<Reply> getReplies(Post post) {
-        return post.getReplies().stream()
-                .filter(reply -> reply.getParentReply() == null)
-                .collect(Collectors.toList());
-    }
 }
\ No newline at end of file
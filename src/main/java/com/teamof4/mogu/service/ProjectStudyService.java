@@ -1,22 +1,41 @@
 package com.teamof4.mogu.service;
 
+import com.teamof4.mogu.cache.ListPageCache;
+import com.teamof4.mogu.cache.PostDetailCache;
+import com.teamof4.mogu.cache.PostDetailCache.Cached;
+import com.teamof4.mogu.cache.ResponseBodyCache;
+import com.teamof4.mogu.cache.SerializedJson;
+import com.teamof4.mogu.constants.SkillMatch;
 import com.teamof4.mogu.constants.SortStatus;
+import com.teamof4.mogu.dto.CursorDto;
+import com.teamof4.mogu.dto.CursorDto.SliceResponse;
 import com.teamof4.mogu.dto.ProjectStudyDto;
+import com.teamof4.mogu.dto.ReplyDto;
 import com.teamof4.mogu.entity.*;
 import com.teamof4.mogu.exception.post.ProjectStudyNotFoundException;
-import com.teamof4.mogu.repository.PostRepository;
 import com.teamof4.mogu.repository.PostSkillRepository;
 import com.teamof4.mogu.repository.ProjectStudyRepository;
+import com.teamof4.mogu.search.PostSearchBackend;
+import com.teamof4.mogu.search.ProjectStudyFacetCounter;
+import com.teamof4.mogu.search.SkillBitmapIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.teamof4.mogu.constants.DefaultImageConstants.DEFAULT_POST_IMAGE_ID;
@@ -29,81 +48,225 @@ import static com.teamof4.mogu.dto.ProjectStudyDto.*;
 @RequiredArgsConstructor
 public class ProjectStudyService {
 
-    private final PostRepository postRepository;
+    private static final int SKILL_FILTER_CANDIDATE_SIZE = 1000;
+
+    private final ViewCountService viewCountService;
     private final ProjectStudyRepository projectStudyRepository;
     private final PostSkillRepository postSkillRepository;
     private final PostService postService;
     private final ImageService imageService;
+    private final PostSearchBackend postSearchBackend;
+    private final SkillBitmapIndex skillBitmapIndex;
+    private final ProjectStudyFacetCounter projectStudyFacetCounter;
+    private final PostDetailCache postDetailCache;
+    private final ListPageCache listPageCache;
+    private final ResponseBodyCache responseBodyCache;
 
 
     public Page<ProjectStudyDto.Response> getSearchedList(Long categoryId, String keyword, Long currentUserId,
                                                              Pageable pageable, SortStatus status) {
         Category category = postService.getCategory(categoryId);
 
-        Page<ProjectStudy> projectStudies = new PageImpl<>(Collections.emptyList());
+        Page<Long> postIds = postSearchBackend.search(keyword, category.getId(), status.equals(OPENED), false, pageable);
 
-        if (status.equals(ALL)) {
-            projectStudies =
-                    projectStudyRepository.findAllByKeyword(keyword, category, pageable);
-        } else if (status.equals(OPENED)) {
-            projectStudies =
-                    projectStudyRepository.findAllByKeywordAndOpened(keyword, category, pageable);
-        }
+        return postIdsToPage(postIds, pageable, currentUserId);
+    }
+
+    /**
+     * 검색 결과 상위 SKILL_FILTER_CANDIDATE_SIZE 개 중에서 기술 스택 조건에 맞는 게시글만 남긴다.
+     */
+    public Page<ProjectStudyDto.Response> getSearchedListBySkills(Long categoryId, String keyword,
+                                                                 List<Long> skillIds, SkillMatch match,
+                                                                 Long currentUserId, Pageable pageable,
+                                                                 SortStatus status) {
+        Category category = postService.getCategory(categoryId);
+        boolean openedOnly = status.equals(OPENED);
+
+        List<Long> candidates = postSearchBackend.search(keyword, category.getId(), openedOnly, false,
+                PageRequest.of(0, SKILL_FILTER_CANDIDATE_SIZE)).getContent();
+        List<Long> matched = skillBitmapIndex.filter(candidates, category.getId(), openedOnly, skillIds, match);
+
+        List<Long> pagePostIds = matched.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
 
-        List<ProjectStudyDto.Response> projectStudyDtoList = entityToListDto(projectStudies, currentUserId);
+        return postIdsToPage(new PageImpl<>(pagePostIds, pageable, matched.size()), pageable, currentUserId);
+    }
+
+    public Page<ProjectStudyDto.Response> getProjectStudyListBySkills(Long categoryId, List<Long> skillIds,
+                                                                     SkillMatch match, Pageable pageable,
+                                                                     Long currentUserId, SortStatus status) {
+        Category category = postService.getCategory(categoryId);
+
+        Page<Long> postIds = skillBitmapIndex.findPostIds(
+                category.getId(), status.equals(OPENED), skillIds, match, pageable);
+
+        return postIdsToPage(postIds, pageable, currentUserId);
+    }
+
+    public FacetResponse getFacets(Long categoryId) {
+        Category category = postService.getCategory(categoryId);
 
-        return new PageImpl<>(projectStudyDtoList, pageable, projectStudies.getTotalElements());
+        return projectStudyFacetCounter.getFacets(category.getId());
     }
 
+    /**
+     * 앞쪽 페이지는 모든 유저가 같은 캐시를 사용하고 좋아요 여부만 덧씌운다.
+     */
     public Page<ProjectStudyDto.Response> getProjectStudyList(Long categoryId, Pageable pageable,
                                                               Long currentUserId, SortStatus status) {
 
         Category category = postService.getCategory(categoryId);
-        Page<ProjectStudy> projectStudies = new PageImpl<>(Collections.emptyList());
+        Page<ProjectStudyDto.Response> page = listPageCache.getPage(ProjectStudyDto.Response.class,
+                category.getId(), status.name(), pageable, () -> {
+                    Page<ProjectStudy> projectStudies = new PageImpl<>(Collections.emptyList());
 
-        if (status.equals(ALL)) {
-            projectStudies = projectStudyRepository.findAll(category, pageable);
-        } else if (status.equals(OPENED)) {
-            projectStudies = projectStudyRepository.findAllOpened(category, pageable);
-        }
+                    if (status.equals(ALL)) {
+                        projectStudies = projectStudyRepository.findAll(category, pageable);
+                    } else if (status.equals(OPENED)) {
+                        projectStudies = projectStudyRepository.findAllOpened(category, pageable);
+                    }
+
+                    return new PageImpl<>(toListDto(projectStudies), pageable, projectStudies.getTotalElements());
+                });
+
+        return new PageImpl<>(applyLikeStatus(page.getContent(), currentUserId), pageable, page.getTotalElements());
+    }
 
-        List<ProjectStudyDto.Response> projectStudyDtoList = entityToListDto(projectStudies, currentUserId);
-        return new PageImpl<>(projectStudyDtoList, pageable, projectStudies.getTotalElements());
+    /**
+     * 비로그인 유저의 리스트 응답. 같은 ETag 동안 직렬화한 JSON 을 재사용한다.
+     */
+    public SerializedJson getProjectStudyListJson(Long categoryId, Pageable pageable, SortStatus status) {
+        return responseBodyCache.get("projectstudy-list:" + categoryId + ":" + status + ":" + pageable,
+                getListEtag(categoryId, null), () -> getProjectStudyList(categoryId, pageable, null, status));
+    }
+
+    public SliceResponse<ProjectStudyDto.Response> getProjectStudyListByCursor(Long categoryId, String cursor, int size,
+                                                                             Long currentUserId, SortStatus status) {
+
+        Category category = postService.getCategory(categoryId);
+        Long lastPostId = CursorDto.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Supplier<Slice<ProjectStudyDto.Response>> loader = () -> {
+            Slice<ProjectStudy> projectStudies = new SliceImpl<>(Collections.emptyList());
+
+            if (status.equals(ALL)) {
+                projectStudies = projectStudyRepository.findAllByCursor(category, lastPostId, pageable);
+            } else if (status.equals(OPENED)) {
+                projectStudies = projectStudyRepository.findAllOpenedByCursor(category, lastPostId, pageable);
+            }
+
+            return new SliceImpl<>(toListDto(projectStudies), pageable, projectStudies.hasNext());
+        };
+
+        Slice<ProjectStudyDto.Response> slice = (cursor == null || cursor.isBlank())
+                ? listPageCache.getFirstSlice(ProjectStudyDto.Response.class, category.getId(), status.name(),
+                        size, loader)
+                : loader.get();
+
+        return new SliceResponse<>(
+                new SliceImpl<>(applyLikeStatus(slice.getContent(), currentUserId), pageable, slice.hasNext()),
+                ProjectStudyDto.Response::getPostId);
     }
 
     public Page<ProjectStudyDto.Response> getProjectStudyLikesList(Long categoryId, Pageable pageable,
                                                               Long currentUserId, SortStatus status) {
 
         Category category = postService.getCategory(categoryId);
-        Page<ProjectStudy> projectStudies = new PageImpl<>(Collections.emptyList());
+        Page<ProjectStudyDto.Response> page = listPageCache.getPage(ProjectStudyDto.Response.class,
+                category.getId(), "LIKES_" + status.name(), pageable, () -> {
+                    Page<ProjectStudy> projectStudies = new PageImpl<>(Collections.emptyList());
 
-        if (status.equals(ALL)) {
-            projectStudies = projectStudyRepository.findAllLikesDesc(category, pageable);
-        } else if (status.equals(OPENED)) {
-            projectStudies = projectStudyRepository.findAllOpenedLikesDesc(category, pageable);
-        }
+                    if (status.equals(ALL)) {
+                        projectStudies = projectStudyRepository.findAllLikesDesc(category, pageable);
+                    } else if (status.equals(OPENED)) {
+                        projectStudies = projectStudyRepository.findAllOpenedLikesDesc(category, pageable);
+                    }
+
+                    return new PageImpl<>(toListDto(projectStudies), pageable, projectStudies.getTotalElements());
+                });
+
+        return new PageImpl<>(applyLikeStatus(page.getContent(), currentUserId), pageable, page.getTotalElements());
+    }
 
-        List<ProjectStudyDto.Response> projectStudyDtoList = entityToListDto(projectStudies, currentUserId);
-        return new PageImpl<>(projectStudyDtoList, pageable, projectStudies.getTotalElements());
+    public String getPostEtag(Long postId, Long currentUserId) {
+        return postService.getPostEtag(postId, currentUserId);
+    }
+
+    public String getListEtag(Long categoryId, Long currentUserId) {
+        return postService.getListEtag(categoryId, currentUserId);
     }
 
     public ProjectStudyDto.Response getProjectStudyDetails(Long postId, Long currentUserId) {
-        Post post = postService.getPost(postId);
+        return getProjectStudyDetails(postId, currentUserId, null);
+    }
+
+    /**
+     * replySize 가 주어지면 전체 댓글 트리 대신 최상위 댓글 첫 페이지만 담는다.
+     * 캐시된 응답에 좋아요 여부와 최신 조회수만 덧씌운다.
+     */
+    public ProjectStudyDto.Response getProjectStudyDetails(Long postId, Long currentUserId, Integer replySize) {
+        Cached<ProjectStudyDto.Response> cached = getCachedProjectStudyDetails(postId,
+                PostService.clampReplySize(replySize));
 
-        if (!post.getUser().getId().equals(currentUserId)) {
-            post.addViewCount(post.getView());
-            postRepository.save(post);
+        if (!cached.getValue().getUserId().equals(currentUserId)) {
+            viewCountService.increase(postId);
         }
 
+        return withViewer(cached, postId, currentUserId);
+    }
+
+    /**
+     * 비로그인 유저의 상세 응답. 같은 ETag 동안 직렬화한 JSON 을 재사용하고 조회수만 센다.
+     * ETag 는 캐시된 응답의 버전으로 만든다.
+     */
+    public SerializedJson getProjectStudyDetailsJson(Long postId, Integer requestedReplySize) {
+        Integer replySize = PostService.clampReplySize(requestedReplySize);
+        Cached<ProjectStudyDto.Response> cached = getCachedProjectStudyDetails(postId, replySize);
+        viewCountService.increase(postId);
+
+        return responseBodyCache.get("projectstudy:" + postId + ":" + replySize, postService.getPostEtag(postId, cached.getVersion(), null),
+                () -> withViewer(cached, postId, null));
+    }
+
+    private Cached<ProjectStudyDto.Response> getCachedProjectStudyDetails(Long postId, Integer replySize) {
+        return postDetailCache.get(ProjectStudyDto.Response.class, postId, replySize,
+                () -> loadProjectStudyDetails(postId, replySize));
+    }
+
+    private ProjectStudyDto.Response withViewer(Cached<ProjectStudyDto.Response> cached, Long postId,
+                                                Long currentUserId) {
+        ProjectStudyDto.Response details = cached.getValue();
+
+        return details.withViewer(
+                details.getView() + viewCountService.getPendingCount(postId, cached.getViewMark()),
+                postService.isLikedByCurrentUser(currentUserId, postId));
+    }
+
+    /**
+     * 유저와 상관없는 상세 응답. 좋아요 여부는 false, 조회수는 DB에 반영된 값이다.
+     */
+    private ProjectStudyDto.Response loadProjectStudyDetails(Long postId, Integer replySize) {
+        Post post = postService.getPost(postId);
+
         ProjectStudy projectStudy = getProjectStudy(post.getId());
 
-        List<Reply> replyList = postService.getReplies(post);
+        List<ReplyDto.Response> replies;
+        String replyNextCursor = null;
+        if (replySize == null) {
+            replies = postService.getReplyTree(postId);
+        } else {
+            SliceResponse<ReplyDto.Response> replyPage = postService.findReplyPage(postId, null, replySize);
+            replies = replyPage.getContent();
+            replyNextCursor = replyPage.getNextCursor();
+        }
 
         return ProjectStudyDto.Response.builder()
                 .post(post)
                 .projectStudy(projectStudy)
-                .replies(postService.replyConvertToDto(replyList))
-                .isLiked(postService.isLikedByCurrentUser(currentUserId, post)).build();
+                .replies(replies)
+                .replyNextCursor(replyNextCursor).build();
 
     }
 
@@ -120,8 +283,12 @@ public class ProjectStudyService {
         projectStudy.setImage(image);
 
         projectStudyRepository.save(projectStudy);
+        postSearchBackend.updateOpenStatus(postId, projectStudy.isOpenStatus());
 
         savePostSkill(projectStudyDTO.getSkills(), projectStudy);
+        projectStudyFacetCounter.add(postId, post.getCategory().getId(), projectStudy.getRegion(),
+                projectStudy.getPreferredMethod(), projectStudy.isOpenStatus(),
+                projectStudyDTO.getSkills().stream().map(Skill::getId).collect(Collectors.toList()));
 
         return projectStudy.getId();
     }
@@ -143,6 +310,10 @@ public class ProjectStudyService {
         projectStudy.updateProjectStudy(projectStudyDTO);
 
         projectStudyRepository.save(projectStudy);
+        postSearchBackend.updateOpenStatus(postId, projectStudy.isOpenStatus());
+        skillBitmapIndex.updateOpenStatus(postId, projectStudy.isOpenStatus());
+        projectStudyFacetCounter.update(postId, projectStudy.getRegion(),
+                projectStudy.getPreferredMethod(), projectStudy.isOpenStatus());
 
         return projectStudy.getId();
     }
@@ -152,6 +323,30 @@ public class ProjectStudyService {
                 .orElseThrow(() -> new ProjectStudyNotFoundException("프로젝트/스터디 상세 정보가 존재하지 않습니다."));
     }
 
+    private Page<ProjectStudyDto.Response> postIdsToPage(Page<Long> postIds, Pageable pageable, Long currentUserId) {
+        List<ProjectStudyDto.Response> projectStudyDtoList =
+                entityToListDto(new SliceImpl<>(findAllInOrder(postIds.getContent())), currentUserId);
+
+        return new PageImpl<>(projectStudyDtoList, pageable, postIds.getTotalElements());
+    }
+
+    /**
+     * 검색 색인이 정한 순서를 유지한 채로 프로젝트/스터디 게시글을 조회한다.
+     */
+    private List<ProjectStudy> findAllInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, ProjectStudy> projectStudies = projectStudyRepository.findAllByPostIds(postIds).stream()
+                .collect(Collectors.toMap(projectStudy -> projectStudy.getPost().getId(), Function.identity()));
+
+        return postIds.stream()
+                .map(projectStudies::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     private Image getImage(MultipartFile multipartFile) {
         Image image;
 
@@ -171,15 +366,35 @@ public class ProjectStudyService {
                     .skill(skill).build();
             postSkillRepository.save(postSkill);
         }
+
+        Post post = projectStudy.getPost();
+        skillBitmapIndex.add(post.getId(), post.getCategory().getId(), projectStudy.isOpenStatus(),
+                skills.stream().map(Skill::getId).collect(Collectors.toList()));
     }
 
-    private List<ProjectStudyDto.Response> entityToListDto(Page<ProjectStudy> projectStudies, Long currentUserId) {
+    private List<ProjectStudyDto.Response> entityToListDto(Slice<ProjectStudy> projectStudies, Long currentUserId) {
+        return applyLikeStatus(toListDto(projectStudies), currentUserId);
+    }
 
+    /**
+     * 유저와 상관없는 리스트 응답. 좋아요 여부는 false 이다.
+     */
+    private List<ProjectStudyDto.Response> toListDto(Slice<ProjectStudy> projectStudies) {
         return projectStudies.stream()
                 .map(post -> ProjectStudyDto.Response.builder()
                         .post(post.getPost())
                         .projectStudy(post)
-                        .isLiked(postService.isLikedByCurrentUser(currentUserId, post.getPost())).build())
+                        .isLiked(false).build())
+                .collect(Collectors.toList());
+    }
+
+    private List<ProjectStudyDto.Response> applyLikeStatus(List<ProjectStudyDto.Response> projectStudies,
+                                                           Long currentUserId) {
+        Set<Long> likedPostIds = postService.getLikedPostIds(currentUserId,
+                projectStudies.stream().map(ProjectStudyDto.Response::getPostId).collect(Collectors.toList()));
+
+        return projectStudies.stream()
+                .map(projectStudy -> projectStudy.withLikeStatus(likedPostIds.contains(projectStudy.getPostId())))
                 .collect(Collectors.toList());
     }
 }
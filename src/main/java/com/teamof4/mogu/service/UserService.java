@@ -1,10 +1,13 @@
 package com.teamof4.mogu.service;
 
+import com.teamof4.mogu.cache.LikedPostCache;
+import com.teamof4.mogu.cache.ReferenceDataCache;
 import com.teamof4.mogu.constants.CategoryNames;
 import com.teamof4.mogu.dto.PostDto;
 import com.teamof4.mogu.dto.UserDto;
 import com.teamof4.mogu.dto.UserDto.*;
 import com.teamof4.mogu.entity.Category;
+import com.teamof4.mogu.entity.Image;
 import com.teamof4.mogu.entity.Post;
 import com.teamof4.mogu.entity.User;
 import com.teamof4.mogu.entity.UserSkill;
@@ -12,6 +15,7 @@ import com.teamof4.mogu.exception.image.ImageNotFoundException;
 import com.teamof4.mogu.exception.post.CategoryNotFoundException;
 import com.teamof4.mogu.exception.user.*;
 import com.teamof4.mogu.repository.*;
+import com.teamof4.mogu.search.SuggestionIndex;
 import com.teamof4.mogu.security.TokenProvider;
 import com.teamof4.mogu.util.certification.EmailService;
 import com.teamof4.mogu.util.encryption.EncryptionService;
@@ -25,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.teamof4.mogu.constants.DefaultImageConstants.DEFAULT_PROFILE_IMAGE_ID;
@@ -38,12 +43,13 @@ public class UserService {
     private final ImageRepository imageRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final CategoryRepository categoryRepository;
     private final UserSkillRepository userSkillRepository;
-    private final SkillRepository skillRepository;
     private final EncryptionService encryptionService;
     private final EmailService emailService;
     private final TokenProvider tokenProvider;
+    private final SuggestionIndex suggestionIndex;
+    private final ReferenceDataCache referenceDataCache;
+    private final LikedPostCache likedPostCache;
 
     @Transactional
     public void create(SaveRequest requestDto) {
@@ -55,6 +61,7 @@ public class UserService {
         user.setImage(imageRepository.findById(DEFAULT_PROFILE_IMAGE_ID)
                 .orElseThrow(() -> new ImageNotFoundException("기본 프로필 이미지를 찾지 못했습니다.")));
         userRepository.save(user);
+        suggestionIndex.markDirty();
     }
 
 
@@ -117,10 +124,12 @@ public class UserService {
         updateSkills(user, updateRequest);
         //profileImage가 null이 아니면 새 이미지 저장하고 기존 이미지 삭제
         if (!profileImage.isEmpty()) {
+            Image previousImage = user.getImage();
             user.setImage(imageService.updateProfileImage(profileImage));
-            imageService.deleteProfileImage(user.getImage());
+            imageService.deleteProfileImage(previousImage);
         }
         userRepository.save(user);
+        suggestionIndex.markDirty();
     }
 
     @Transactional(readOnly = true)
@@ -154,7 +163,7 @@ public class UserService {
                 .filter(updating -> user.getUserSkillNames()
                         .stream()
                         .noneMatch(original -> updating.equals(original)))
-                .map(skillName -> skillRepository.findBySkillName(skillName))
+                .map(skillName -> referenceDataCache.findSkillByName(skillName))
                 .forEach(skill -> userSkillRepository.save(
                         UserSkill.of(user, skill.orElseThrow(() -> new UserSkillNotFoundException()))));
     }
@@ -169,6 +178,7 @@ public class UserService {
         }
         user.deleteUser();
         userRepository.save(user);
+        suggestionIndex.markDirty();
     }
 
     public String certificateByEmail(EmailCertificationRequest requestDto) {
@@ -221,7 +231,7 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public Page<PostDto.MyPageResponse> getMyParticipatingPosts(Long userId, Pageable pageable, CategoryNames categoryName) {
-        Category category = categoryRepository.findByCategoryName(categoryName.getKorName())
+        Category category = referenceDataCache.findCategoryByName(categoryName.getKorName())
                 .orElseThrow(() -> new CategoryNotFoundException("해당 카테고리가 존재하지 않습니다."));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("존재하지 않는 사용자입니다."));
@@ -231,8 +241,10 @@ public class UserService {
     }
 
     public List<PostDto.MyPageResponse> toMyPageResponse(Page<Post> posts, User user) {
+        Set<Long> likedPostIds = likedPostCache.getLikedPostIds(user.getId());
+
         return posts.stream()
-                .map(post -> post.toMyPageResponse(user))
+                .map(post -> post.toMyPageResponse(likedPostIds.contains(post.getId())))
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.teamof4.mogu.service;
+
+import com.teamof4.mogu.repository.PostRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에 모아두었다가 주기적으로 DB에 반영한다.
+ * 상세 조회마다 게시글 row 를 UPDATE 하지 않기 위해 사용한다.
+ *
+ * 모두 반영된 뒤 evictIdleMillis 동안 조회가 없던 게시글의 카운터는 지운다.
+ * 게시글 상세 캐시의 항목은 그보다 먼저 만료되어야 하므로 상세 캐시 TTL 이상으로 설정한다.
+ */
+@Log4j2
+@Service
+public class ViewCountService {
+
+    private final PostRepository postRepository;
+    private final long evictIdleMillis;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public ViewCountService(PostRepository postRepository,
+                            @Value("${mogu.view-count.evict-idle-seconds:600}") long evictIdleSeconds) {
+        this.postRepository = postRepository;
+        this.evictIdleMillis = evictIdleSeconds * 1000;
+    }
+
+    /**
+     * 카운터를 지우는 flush 와 겹쳐도 조회수를 잃지 않도록 compute 안에서 증가시킨다.
+     */
+    public void increase(Long postId) {
+        counters.compute(postId, (id, counter) -> {
+            Counter current = counter == null ? new Counter() : counter;
+            current.total.increment();
+            return current;
+        });
+    }
+
+    /**
+     * 지금까지 DB에 반영된 조회수. 캐시된 응답을 만들 때 함께 기록해 두었다가
+     * {@link #getPendingCount(Long, ViewMark)} 로 그 이후에 늘어난 조회수를 구한다.
+     */
+    public ViewMark getViewMark(Long postId) {
+        Counter counter = counters.get(postId);
+        return counter == null ? ViewMark.NONE : new ViewMark(counter, counter.flushed);
+    }
+
+    /**
+     * mark 시점 이후에 늘어난 조회수. 그 사이에 DB에 반영된 조회수도 포함한다.
+     * 카운터가 없으면 반영 대기 중인 조회수가 없고, mark 이후 새로 만들어진 카운터라면 모든 조회수가 mark 이후의 것이다.
+     */
+    public int getPendingCount(Long postId, ViewMark mark) {
+        Counter counter = counters.get(postId);
+        if (counter == null) {
+            return 0;
+        }
+        if (counter != mark.counter) {
+            return (int) counter.total.sum();
+        }
+        return (int) (counter.total.sum() - mark.flushed);
+    }
+
+    @Scheduled(fixedDelayString = "${mogu.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+
+        counters.forEach((postId, counter) -> {
+            long delta = counter.pending();
+            if (delta == 0) {
+                counters.computeIfPresent(postId, (id, current) -> current.isIdle(now, evictIdleMillis) ? null : current);
+                return;
+            }
+
+            try {
+                postRepository.updateViewCount(postId, (int) delta);
+                counter.flushed += delta;
+                counter.lastFlushedAt = now;
+            } catch (RuntimeException exception) {
+                log.warn("조회수 반영에 실패했습니다. 다음 주기에 다시 시도합니다. postId={}", postId, exception);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int getCounterCount() {
+        return counters.size();
+    }
+
+    /**
+     * 캐시된 응답을 만들 때의 카운터와 그때까지 DB에 반영된 조회수
+     */
+    public static final class ViewMark {
+
+        private static final ViewMark NONE = new ViewMark(null, 0);
+
+        private final Counter counter;
+        private final long flushed;
+
+        private ViewMark(Counter counter, long flushed) {
+            this.counter = counter;
+            this.flushed = flushed;
+        }
+    }
+
+    /**
+     * 누적 조회수와 DB에 반영된 조회수를 따로 관리해 반영 중에 들어온 조회수도 잃지 않는다.
+     * flushed 와 lastFlushedAt 은 flush 안에서만 변경된다.
+     */
+    private static class Counter {
+
+        private final LongAdder total = new LongAdder();
+
+        private volatile long flushed;
+
+        private volatile long lastFlushedAt = System.currentTimeMillis();
+
+        private long pending() {
+            return total.sum() - flushed;
+        }
+
+        private boolean isIdle(long now, long evictIdleMillis) {
+            return pending() == 0 && now - lastFlushedAt >= evictIdleMillis;
+        }
+    }
+}
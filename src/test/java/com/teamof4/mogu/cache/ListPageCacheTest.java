@@ -0,0 +1,78 @@
+package com.teamof4.mogu.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListPageCacheTest {
+
+    private PostVersionRegistry postVersionRegistry;
+    private ListPageCache listPageCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        postVersionRegistry = new PostVersionRegistry(60, 10000);
+        listPageCache = new ListPageCache(postVersionRegistry, 2, 100, 30, 3000);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 카테고리, 정렬 방식, 페이지는 한 번만 조회한다")
+    void loadOnce() {
+        assertThat(get(1L, "DEFAULT", PageRequest.of(0, 10))).isEqualTo("1:DEFAULT:1");
+        assertThat(get(1L, "DEFAULT", PageRequest.of(0, 10))).isEqualTo("1:DEFAULT:1");
+        assertThat(get(1L, "LIKES", PageRequest.of(0, 10))).isEqualTo("1:LIKES:2");
+        assertThat(get(1L, "DEFAULT", PageRequest.of(1, 10))).isEqualTo("1:DEFAULT:3");
+
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 캐시 대상보다 뒤의 페이지는 매번 조회한다")
+    void bypassLaterPages() {
+        get(1L, "DEFAULT", PageRequest.of(2, 10));
+        get(1L, "DEFAULT", PageRequest.of(2, 10));
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글이 변경된 카테고리의 페이지만 다시 조회한다")
+    void reloadChangedCategory() {
+        get(1L, "DEFAULT", PageRequest.of(0, 10));
+        get(2L, "DEFAULT", PageRequest.of(0, 10));
+
+        postVersionRegistry.postChanged(10L, 1L);
+
+        assertThat(get(1L, "DEFAULT", PageRequest.of(0, 10))).isEqualTo("1:DEFAULT:3");
+        assertThat(get(2L, "DEFAULT", PageRequest.of(0, 10))).isEqualTo("2:DEFAULT:2");
+    }
+
+    @Test
+    @DisplayName("[성공] 커서 기반 첫 페이지는 같은 크기의 페이지 기반 리스트와 따로 저장한다")
+    void cursorFirstSliceIsSeparate() {
+        get(1L, "DEFAULT", PageRequest.of(0, 10));
+
+        String first = listPageCache.getFirstSlice(String.class, 1L, "DEFAULT", 10,
+                () -> new PageImpl<>(List.of("cursor:" + loadCount.incrementAndGet()))).getContent().get(0);
+
+        assertThat(first).isEqualTo("cursor:2");
+    }
+
+    private String get(Long categoryId, String mode, Pageable pageable) {
+        Page<String> page = listPageCache.getPage(String.class, categoryId, mode, pageable,
+                () -> new PageImpl<>(List.of(categoryId + ":" + mode + ":" + loadCount.incrementAndGet()),
+                        pageable, 100));
+        return page.getContent().get(0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.teamof4.mogu.cache;
+
+import com.teamof4.mogu.repository.PostRepository;
+import com.teamof4.mogu.service.ViewCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostDetailCacheTest {
+
+    private PostVersionRegistry postVersionRegistry;
+    private PostDetailCache postDetailCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        postVersionRegistry = new PostVersionRegistry(60, 10000);
+        postDetailCache = new PostDetailCache(new ViewCountService(mock(PostRepository.class), 600),
+                postVersionRegistry, 100, 600, 3000);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 게시글은 한 번만 만들고 댓글 크기별로 따로 저장한다")
+    void loadOnce() {
+        assertThat(get(1L, null)).isEqualTo("post-1:1");
+        assertThat(get(1L, null)).isEqualTo("post-1:1");
+        assertThat(get(1L, 10)).isEqualTo("post-1:2");
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("[성공] 무효화된 게시글만 다시 만든다")
+    void reloadAfterInvalidate() {
+        get(1L, null);
+        get(2L, null);
+
+        postVersionRegistry.postChanged(1L);
+
+        assertThat(get(1L, null)).isEqualTo("post-1:3");
+        assertThat(get(2L, null)).isEqualTo("post-2:2");
+    }
+
+    @Test
+    @DisplayName("[성공] 무효화 전에 만들기 시작한 응답은 이전 버전으로 저장되어 다음 조회에서 다시 만든다")
+    void staleLoadIsNotReused() {
+        String stale = postDetailCache.get(String.class, 1L, null, () -> {
+            postVersionRegistry.postChanged(1L);
+            return "stale";
+        }).getValue();
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(get(1L, null)).isEqualTo("post-1:1");
+    }
+
+    private String get(Long postId, Integer replySize) {
+        return postDetailCache.get(String.class, postId, replySize,
+                () -> "post-" + postId + ":" + loadCount.incrementAndGet()).getValue();
+    }
+}
@@ -0,0 +1,64 @@
+package com.teamof4.mogu.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostVersionRegistryTest {
+
+    private final PostVersionRegistry postVersionRegistry = new PostVersionRegistry(3600, 2);
+
+    @Test
+    @DisplayName("[성공] 댓글 변경은 게시글 ETag 만, 게시글 변경은 카테고리 ETag 까지 바꾼다")
+    void etagChangesWithVersion() {
+        String postEtag = postVersionRegistry.getPostEtag(1L, 7L);
+        String listEtag = postVersionRegistry.getCategoryEtag(4L, 7L);
+
+        postVersionRegistry.postChanged(1L);
+        assertThat(postVersionRegistry.getPostEtag(1L, 7L)).isNotEqualTo(postEtag);
+        assertThat(postVersionRegistry.getCategoryEtag(4L, 7L)).isEqualTo(listEtag);
+
+        postVersionRegistry.postChanged(1L, 4L);
+        assertThat(postVersionRegistry.getCategoryEtag(4L, 7L)).isNotEqualTo(listEtag);
+        assertThat(postVersionRegistry.getCategoryEtag(5L, 7L)).isNotEqualTo(listEtag);
+    }
+
+    @Test
+    @DisplayName("[성공] 버전을 지정한 ETag 는 그 버전일 때의 ETag 와 같고, 버전이 바뀐 뒤에도 그대로다")
+    void etagForVersion() {
+        long version = postVersionRegistry.getPostVersion(1L);
+        String etag = postVersionRegistry.getPostEtag(1L, 7L);
+        assertThat(postVersionRegistry.getPostEtag(1L, version, 7L)).isEqualTo(etag);
+
+        postVersionRegistry.postChanged(1L);
+        assertThat(postVersionRegistry.getPostEtag(1L, version, 7L)).isEqualTo(etag);
+        assertThat(postVersionRegistry.getPostEtag(1L, 7L)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("[성공] 좋아요 여부가 다르므로 유저마다 ETag 가 다르다")
+    void etagPerUser() {
+        assertThat(postVersionRegistry.getPostEtag(1L, 7L)).isEqualTo(postVersionRegistry.getPostEtag(1L, 7L));
+        assertThat(postVersionRegistry.getPostEtag(1L, 7L)).isNotEqualTo(postVersionRegistry.getPostEtag(1L, 8L));
+        assertThat(postVersionRegistry.getPostEtag(1L, null)).startsWith("\"").endsWith("-u0\"");
+    }
+
+    @Test
+    @DisplayName("[성공] 가장 오래전에 변경된 게시글부터 지우고, 지워진 게시글은 이전 버전보다 낮은 버전으로 읽지 않는다")
+    void evictEldestPost() {
+        String untouchedEtag = postVersionRegistry.getPostEtag(9L, 7L);
+        String firstEtag = postVersionRegistry.getPostEtag(1L, 7L);
+
+        postVersionRegistry.postChanged(1L);
+        long firstVersion = postVersionRegistry.getPostVersion(1L);
+        postVersionRegistry.postChanged(2L);
+        postVersionRegistry.postChanged(3L);
+
+        assertThat(postVersionRegistry.getPostCount()).isEqualTo(2);
+        assertThat(postVersionRegistry.getPostVersion(1L)).isGreaterThanOrEqualTo(firstVersion);
+        assertThat(postVersionRegistry.getPostEtag(1L, 7L)).isNotEqualTo(firstEtag);
+        assertThat(postVersionRegistry.getPostEtag(9L, 7L)).isNotEqualTo(untouchedEtag);
+        assertThat(postVersionRegistry.getPostVersion(3L)).isGreaterThan(postVersionRegistry.getPostVersion(1L));
+    }
+}
@@ -0,0 +1,67 @@
+package com.teamof4.mogu.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamof4.mogu.entity.Category;
+import com.teamof4.mogu.entity.Skill;
+import com.teamof4.mogu.repository.CategoryRepository;
+import com.teamof4.mogu.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataCacheTest {
+
+    private CategoryRepository categoryRepository;
+    private SkillRepository skillRepository;
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        skillRepository = mock(SkillRepository.class);
+        referenceDataCache = new ReferenceDataCache(categoryRepository, skillRepository, new ObjectMapper());
+
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(new Category(4L, "프로젝트"), new Category(5L, "스터디")));
+        when(skillRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(new Skill(1L, "Spring"), new Skill(2L, "React")));
+    }
+
+    @Test
+    @DisplayName("[성공] 처음 한 번만 DB를 조회하고 이후에는 메모리에서 찾는다")
+    void lookupWithoutQuery() {
+        assertThat(referenceDataCache.findCategory(4L)).get()
+                .extracting(Category::getCategoryName).isEqualTo("프로젝트");
+        assertThat(referenceDataCache.findCategoryByName("스터디")).get()
+                .extracting(Category::getId).isEqualTo(5L);
+        assertThat(referenceDataCache.findSkillByName("React")).get()
+                .extracting(Skill::getId).isEqualTo(2L);
+        assertThat(referenceDataCache.findCategory(99L)).isEmpty();
+
+        verify(categoryRepository, times(1)).findAll(any(Sort.class));
+        verify(skillRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("[성공] 직렬화한 JSON 과 ETag 는 데이터가 바뀔 때만 바뀐다")
+    void serializedJsonWithEtag() {
+        SerializedJson before = referenceDataCache.getSkillJson();
+        assertThat(new String(before.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo("[{\"id\":1,\"skillName\":\"Spring\"},{\"id\":2,\"skillName\":\"React\"}]");
+
+        referenceDataCache.refresh();
+        assertThat(referenceDataCache.getSkillJson().getEtag()).isEqualTo(before.getEtag());
+
+        when(skillRepository.findAll(any(Sort.class))).thenReturn(List.of(new Skill(1L, "Spring")));
+        referenceDataCache.refresh();
+        assertThat(referenceDataCache.getSkillJson().getEtag()).isNotEqualTo(before.getEtag());
+    }
+}
@@ -0,0 +1,67 @@
+package com.teamof4.mogu.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyCacheTest {
+
+    private ResponseBodyCache responseBodyCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        responseBodyCache = new ResponseBodyCache(new ObjectMapper(), 100, 600, 3000);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("[성공] ETag 가 같으면 직렬화한 JSON 을 다시 만들지 않는다")
+    void reuseWithSameEtag() {
+        SerializedJson first = get("post:1", "\"v1\"");
+        SerializedJson second = get("post:1", "\"v1\"");
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"load\":1}");
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("[성공] ETag 가 바뀌면 다시 직렬화한다")
+    void reloadWithNewEtag() {
+        get("post:1", "\"v1\"");
+        SerializedJson reloaded = get("post:1", "\"v2\"");
+
+        assertThat(reloaded.getEtag()).isEqualTo("\"v2\"");
+        assertThat(new String(reloaded.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"load\":2}");
+    }
+
+    @Test
+    @DisplayName("[성공] 큰 본문만 gzip 으로 미리 압축하고, 압축을 풀면 원본과 같다")
+    void gzipLargeBody() throws IOException {
+        SerializedJson small = get("post:1", "\"v1\"");
+        SerializedJson large = responseBodyCache.get("post:2", "\"v1\"",
+                () -> List.of(Map.of("content", "내용입니다.".repeat(200))));
+
+        assertThat(small.getGzipBody()).isNull();
+        assertThat(large.getGzipBody()).hasSizeLessThan(large.getBody().length);
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(large.getGzipBody()))) {
+            assertThat(input.readAllBytes()).isEqualTo(large.getBody());
+        }
+    }
+
+    private SerializedJson get(String key, String etag) {
+        return responseBodyCache.get(key, etag, () -> Map.of("load", loadCount.incrementAndGet()));
+    }
+}
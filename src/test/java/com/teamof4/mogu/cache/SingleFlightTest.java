@@ -0,0 +1,136 @@
+package com.teamof4.mogu.cache;
+
+import com.teamof4.mogu.exception.cache.LoadTimeoutException;
+import com.teamof4.mogu.exception.post.PostNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private ExecutorService executor;
+    private AtomicInteger loadCount;
+    private CountDownLatch started;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+        loadCount = new AtomicInteger();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 키로 동시에 들어온 조회는 한 번만 실행하고 결과를 함께 받는다")
+    void coalesceConcurrentLoads() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(3000);
+
+        List<Future<String>> results = runConcurrently(() -> singleFlight.run(1L, () -> {
+            loadCount.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "post-1";
+        }));
+
+        for (Future<String> result : results) {
+            assertThat(result.get(3, TimeUnit.SECONDS)).isEqualTo("post-1");
+        }
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 조회가 끝나면 같은 키로 다시 조회할 수 있다")
+    void runAgainAfterCompletion() {
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>(3000);
+
+        assertThat(singleFlight.run(1L, loadCount::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.run(1L, loadCount::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[실패] 조회 중에 발생한 예외는 기다리던 요청에도 그대로 전달된다")
+    void propagateException() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(3000);
+
+        List<Future<String>> results = runConcurrently(() -> singleFlight.run(1L, () -> {
+            loadCount.incrementAndGet();
+            started.countDown();
+            await(release);
+            throw new PostNotFoundException("존재하지 않는 게시글입니다.");
+        }));
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(3, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(PostNotFoundException.class);
+        }
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("[실패] 앞선 조회가 timeout 안에 끝나지 않으면 기다리던 요청은 LoadTimeoutException 이 발생한다")
+    void timeoutWhileWaiting() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(50);
+
+        Future<String> leader = executor.submit(() -> singleFlight.run(1L, () -> {
+            started.countDown();
+            await(release);
+            return "post-1";
+        }));
+        assertThat(started.await(3, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> singleFlight.run(1L, () -> "unused"))
+                .isInstanceOf(LoadTimeoutException.class);
+
+        release.countDown();
+        assertThat(leader.get(3, TimeUnit.SECONDS)).isEqualTo("post-1");
+    }
+
+    /**
+     * 첫 요청의 loader 가 시작된 뒤 나머지 요청을 보내고, 모두 보낸 후 첫 요청을 끝낸다.
+     */
+    private List<Future<String>> runConcurrently(Callable<String> call) throws Exception {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(call));
+        assertThat(started.await(3, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        // 기다리는 요청들이 진행 중인 조회에 합류할 시간을 준다.
+        Thread.sleep(100);
+        release.countDown();
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.teamof4.mogu.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonResponsesTest {
+
+    @Test
+    @DisplayName("[성공] Accept-Encoding 의 q 값을 보고 gzip 을 받을 수 있는지 판단한다")
+    void acceptsGzip() {
+        assertThat(JsonResponses.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(JsonResponses.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(JsonResponses.acceptsGzip("x-gzip")).isTrue();
+        assertThat(JsonResponses.acceptsGzip("*")).isTrue();
+
+        assertThat(JsonResponses.acceptsGzip(null)).isFalse();
+        assertThat(JsonResponses.acceptsGzip("identity")).isFalse();
+        assertThat(JsonResponses.acceptsGzip("gzip;q=0, deflate")).isFalse();
+        assertThat(JsonResponses.acceptsGzip("gzip; q=0.0")).isFalse();
+        assertThat(JsonResponses.acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(JsonResponses.acceptsGzip("br, *;q=0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] If-None-Match 가 다르면 응답 헤더에 ETag 를 쓰지 않는다")
+    void modifiedLeavesHeaders() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = JsonResponses.checkNotModified(request("gzip", "\"p1.2-gz\", \"p1.2\"", response), "\"p1.3\"");
+
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeaders("ETag")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] If-None-Match 와 일치한 ETag 로 304 를 응답한다")
+    void notModified() {
+        MockHttpServletResponse gzipResponse = new MockHttpServletResponse();
+        assertThat(JsonResponses.checkNotModified(request("gzip", "W/\"p1.3-gz\"", gzipResponse), "\"p1.3\"")).isTrue();
+        assertThat(gzipResponse.getStatus()).isEqualTo(304);
+        assertThat(gzipResponse.getHeaders("ETag")).containsExactly("\"p1.3-gz\"");
+
+        MockHttpServletResponse identityResponse = new MockHttpServletResponse();
+        assertThat(JsonResponses.checkNotModified(request(null, "\"p1.3\"", identityResponse), "\"p1.3\"")).isTrue();
+        assertThat(identityResponse.getHeaders("ETag")).containsExactly("\"p1.3\"");
+
+        // gzip 을 받지 않는 클라이언트는 압축한 본문의 ETag 와 일치하지 않는다.
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        assertThat(JsonResponses.checkNotModified(request("gzip;q=0", "\"p1.3-gz\"", rejectedResponse), "\"p1.3\"")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 압축한 본문의 ETag 는 따옴표 안에 -gz 를 붙인다")
+    void gzipEtag() {
+        assertThat(JsonResponses.gzipEtag("\"p1.3\"")).isEqualTo("\"p1.3-gz\"");
+        assertThat(JsonResponses.gzipEtag("W/\"p1.3\"")).isEqualTo("W/\"p1.3-gz\"");
+    }
+
+    private static ServletWebRequest request(String acceptEncoding, String ifNoneMatch,
+                                             MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/post/1");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        request.addHeader("If-None-Match", ifNoneMatch);
+        return new ServletWebRequest(request, response);
+    }
+}
@@ -1,7 +1,9 @@
 package com.teamof4.mogu.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamof4.mogu.cache.SerializedJson;
 import com.teamof4.mogu.constants.SortStatus;
+import com.teamof4.mogu.dto.CursorDto;
 import com.teamof4.mogu.dto.LikeDto;
 import com.teamof4.mogu.dto.PostDto;
 import com.teamof4.mogu.dto.ReplyDto;
@@ -26,6 +28,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -38,6 +41,7 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -107,7 +111,7 @@ class PostControllerTest {
 
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<PostDto.Response> posts = new PageImpl<>(Collections.emptyList());
+            Page<PostDto.SummaryResponse> posts = new PageImpl<>(Collections.emptyList());
 
             given(postService.getPostList(testCategory.getId(), pageable, testUser.getId(), SortStatus.DEFAULT))
                     .willReturn(posts);
@@ -120,6 +124,28 @@ class PostControllerTest {
             verify(postService).getPostList(anyLong(), any(Pageable.class), anyLong(), eq(SortStatus.DEFAULT));
         }
 
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 전체 조회(커서 기준)")
+        void selectListByCursor() throws Exception {
+
+            CursorDto.SliceResponse<PostDto.SummaryResponse> posts =
+                    new CursorDto.SliceResponse<>(new SliceImpl<>(Collections.emptyList()), PostDto.SummaryResponse::getId);
+
+            given(postService.getPostListByCursor(testCategory.getId(), "", 10, testUser.getId()))
+                    .willReturn(posts);
+
+            mockMvc.perform(
+                            get("/posts/list/1")
+                                    .param("cursor", ""))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+
+            verify(postService).getPostListByCursor(anyLong(), any(), anyInt(), anyLong());
+            verify(postService, never()).getPostList(anyLong(), any(Pageable.class), anyLong(), any(SortStatus.class));
+        }
+
         @Test
         @WithMockCustomUser
         @DisplayName("[성공] 커뮤니티 게시글 전체 조회(좋아요 순)")
@@ -127,7 +153,7 @@ class PostControllerTest {
 
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<PostDto.Response> posts = new PageImpl<>(Collections.emptyList());
+            Page<PostDto.SummaryResponse> posts = new PageImpl<>(Collections.emptyList());
 
             given(postService.getPostList(testCategory.getId(), pageable, testUser.getId(), SortStatus.LIKES))
                     .willReturn(posts);
@@ -140,6 +166,48 @@ class PostControllerTest {
             verify(postService).getPostList(anyLong(), any(Pageable.class), anyLong(), eq(SortStatus.LIKES));
         }
 
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 검색(관련도 순)")
+        void searchPosts() throws Exception {
+
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Page<PostDto.SummaryResponse> posts = new PageImpl<>(Collections.emptyList());
+
+            given(postService.searchPostList(testCategory.getId(), "스프링", pageable, testUser.getId(), SortStatus.RELEVANCE))
+                    .willReturn(posts);
+
+            mockMvc.perform(
+                            get("/posts/search/1")
+                                    .param("keyword", "스프링"))
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(postService).searchPostList(anyLong(), eq("스프링"), any(Pageable.class), anyLong(), eq(SortStatus.RELEVANCE));
+        }
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 검색(최신 순)")
+        void searchRecentPosts() throws Exception {
+
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Page<PostDto.SummaryResponse> posts = new PageImpl<>(Collections.emptyList());
+
+            given(postService.searchPostList(testCategory.getId(), "스프링", pageable, testUser.getId(), SortStatus.DEFAULT))
+                    .willReturn(posts);
+
+            mockMvc.perform(
+                            get("/posts/search/recent/1")
+                                    .param("keyword", "스프링"))
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(postService).searchPostList(anyLong(), eq("스프링"), any(Pageable.class), anyLong(), eq(SortStatus.DEFAULT));
+        }
+
         @Test
         @WithMockCustomUser
         @DisplayName("[성공] 커뮤니티 게시글 상세 조회")
@@ -155,6 +223,167 @@ class PostControllerTest {
 
             verify(postService).getPostDetails(anyLong(), anyLong());
         }
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 상세 조회(댓글 첫 페이지만)")
+        void selectPostDetailsWithReplyPage() throws Exception {
+
+            given(postService.getPostDetails(testPost.getId(), testUser.getId(), 20))
+                    .willReturn(getResponse());
+
+            mockMvc.perform(
+                            get("/posts/post/1")
+                                    .param("replySize", "20"))
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(postService).getPostDetails(anyLong(), anyLong(), eq(20));
+            verify(postService, never()).getPostDetails(anyLong(), anyLong());
+        }
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 상세 조회 시 ETag 가 같으면 304 를 응답하고 게시글을 조회하지 않는다")
+        void selectPostDetailsNotModified() throws Exception {
+
+            given(postService.getPostEtag(testPost.getId(), testUser.getId()))
+                    .willReturn("\"p1.3\"");
+
+            mockMvc.perform(
+                            get("/posts/post/1")
+                                    .header("If-None-Match", "\"p1.3\""))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"p1.3\""));
+
+            verify(postService, never()).getPostDetails(anyLong(), anyLong());
+        }
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 리스트 조회 시 ETag 가 다르면 새 ETag 와 함께 리스트를 응답한다")
+        void selectPostListModified() throws Exception {
+
+            given(postService.getListEtag(testCategory.getId(), testUser.getId()))
+                    .willReturn("\"c1.5\"");
+            given(postService.getPostList(anyLong(), any(Pageable.class), anyLong(), eq(SortStatus.DEFAULT)))
+                    .willReturn(new PageImpl<>(Collections.emptyList()));
+
+            mockMvc.perform(
+                            get("/posts/list/1")
+                                    .header("If-None-Match", "\"c1.4\""))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"c1.5\""));
+
+            verify(postService).getPostList(anyLong(), any(Pageable.class), anyLong(), eq(SortStatus.DEFAULT));
+        }
+
+        @Test
+        @DisplayName("[성공] 비로그인 유저의 커뮤니티 게시글 상세 조회는 미리 직렬화한 JSON 을 gzip 으로, 압축한 본문의 ETag 하나만 응답한다")
+        void selectPostDetailsWithoutLogin() throws Exception {
+
+            given(postService.getPostEtag(testPost.getId(), null))
+                    .willReturn("\"p1.3\"");
+            byte[] body = ("{\"content\":\"" + "내용입니다.".repeat(200) + "\"}").getBytes(StandardCharsets.UTF_8);
+            given(postService.getPostDetailsJson(testPost.getId(), null))
+                    .willReturn(SerializedJson.of(body, "\"p1.3\""));
+
+            mockMvc.perform(
+                            get("/posts/post/1")
+                                    .header("Accept-Encoding", "gzip, deflate")
+                                    .header("If-None-Match", "\"p1.2-gz\""))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().stringValues("ETag", "\"p1.3-gz\""));
+
+            verify(postService, never()).getPostDetails(any(), any());
+        }
+
+        @Test
+        @DisplayName("[성공] gzip;q=0 이면 압축하지 않은 JSON 을 원본 ETag 와 함께 응답한다")
+        void selectPostDetailsGzipRejected() throws Exception {
+
+            given(postService.getPostEtag(testPost.getId(), null))
+                    .willReturn("\"p1.3\"");
+            byte[] body = ("{\"content\":\"" + "내용입니다.".repeat(200) + "\"}").getBytes(StandardCharsets.UTF_8);
+            given(postService.getPostDetailsJson(testPost.getId(), null))
+                    .willReturn(SerializedJson.of(body, "\"p1.3\""));
+
+            mockMvc.perform(
+                            get("/posts/post/1")
+                                    .header("Accept-Encoding", "gzip;q=0, deflate"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(header().stringValues("ETag", "\"p1.3\""));
+        }
+
+        @Test
+        @DisplayName("[성공] 압축한 본문의 ETag 가 같으면 304 를 응답하고 게시글을 조회하지 않는다")
+        void selectPostDetailsGzipNotModified() throws Exception {
+
+            given(postService.getPostEtag(testPost.getId(), null))
+                    .willReturn("\"p1.3\"");
+
+            mockMvc.perform(
+                            get("/posts/post/1")
+                                    .header("Accept-Encoding", "gzip")
+                                    .header("If-None-Match", "\"p1.3-gz\""))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"p1.3-gz\""));
+
+            verify(postService, never()).getPostDetailsJson(anyLong(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 조회 기능")
+    class selectRepliesTest {
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 최상위 댓글 조회(커서 기준)")
+        void selectReplyList() throws Exception {
+
+            CursorDto.SliceResponse<ReplyDto.Response> replies =
+                    new CursorDto.SliceResponse<>(new SliceImpl<>(Collections.emptyList()), ReplyDto.Response::getId);
+
+            given(postService.getReplyPage(testPost.getId(), null, 10))
+                    .willReturn(replies);
+
+            mockMvc.perform(
+                            get("/posts/reply/list/1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+
+            verify(postService).getReplyPage(anyLong(), any(), anyInt());
+        }
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 대댓글 조회(커서 기준)")
+        void selectChildReplyList() throws Exception {
+
+            CursorDto.SliceResponse<ReplyDto.Response> replies =
+                    new CursorDto.SliceResponse<>(new SliceImpl<>(Collections.emptyList()), ReplyDto.Response::getId);
+
+            given(postService.getChildReplyPage(1L, "", 10))
+                    .willReturn(replies);
+
+            mockMvc.perform(
+                            get("/posts/reply/children/1")
+                                    .param("cursor", ""))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+
+            verify(postService).getChildReplyPage(anyLong(), any(), anyInt());
+        }
     }
 
     @Nested
@@ -2,6 +2,8 @@ package com.teamof4.mogu.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teamof4.mogu.constants.SkillMatch;
+import com.teamof4.mogu.dto.CursorDto.SliceResponse;
 import com.teamof4.mogu.dto.PostDto;
 import com.teamof4.mogu.dto.PostDto.SaveRequest;
 import com.teamof4.mogu.dto.PostDto.UpdateRequest;
@@ -24,6 +26,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -34,6 +37,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static com.teamof4.mogu.constants.SortStatus.*;
 import static com.teamof4.mogu.constants.SortStatus.ALL;
@@ -43,6 +47,7 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -170,6 +175,58 @@ public class ProjectStudyControllerTest {
                     .getSearchedList(anyLong(), anyString(), anyLong(), any(Pageable.class), eq(OPENED));
 
         }
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 기술 스택으로 거를 때")
+        void searchPostListBySkills_Success() throws Exception {
+
+            given(projectStudyService
+                    .getSearchedListBySkills(category.getId(), "java", List.of(1L, 2L), SkillMatch.OR, user.getId(), pageable, OPENED)
+                    ).willReturn(posts);
+
+            mockMvc.perform(
+                            get("/projectstudy/search/opened/4")
+                                    .param("keyword", "java")
+                                    .param("skillIds", "1", "2")
+                                    .param("match", "OR"))
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(projectStudyService).getSearchedListBySkills(anyLong(), anyString(), eq(List.of(1L, 2L)),
+                    eq(SkillMatch.OR), anyLong(), any(Pageable.class), eq(OPENED));
+            verify(projectStudyService, never())
+                    .getSearchedList(anyLong(), anyString(), anyLong(), any(Pageable.class), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("스터디/프로젝트 필터별 게시글 수")
+    class facetsTest {
+
+        @Test
+        @DisplayName("[성공] 카테고리 별 집계 조회")
+        void selectFacets_Success() throws Exception {
+
+            FacetResponse facets = FacetResponse.builder()
+                    .region(Map.of("서울", 42L))
+                    .preferredMethod(Map.of("온라인", 130L))
+                    .skill(Map.of(1L, 77L))
+                    .openedCount(150L)
+                    .closedCount(20L)
+                    .build();
+
+            given(projectStudyService.getFacets(4L)).willReturn(facets);
+
+            mockMvc.perform(
+                            get("/projectstudy/facets/4"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.region['서울']").value(42))
+                    .andExpect(jsonPath("$.openedCount").value(150));
+
+            verify(projectStudyService).getFacets(anyLong());
+        }
     }
 
     @Nested
@@ -208,6 +265,63 @@ public class ProjectStudyControllerTest {
             verify(projectStudyService).getProjectStudyList(anyLong(), any(Pageable.class), anyLong(), eq(OPENED));
         }
 
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 전체 조회(기술 스택 필터)")
+        void selectPostListBySkills_Success() throws Exception {
+
+            given(projectStudyService.getProjectStudyListBySkills(category.getId(), List.of(1L, 2L), SkillMatch.AND, pageable, user.getId(), ALL))
+                    .willReturn(posts);
+
+            mockMvc.perform(
+                            get("/projectstudy/list/all/4")
+                                    .param("skillIds", "1", "2"))
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(projectStudyService).getProjectStudyListBySkills(anyLong(), eq(List.of(1L, 2L)),
+                    eq(SkillMatch.AND), any(Pageable.class), anyLong(), eq(ALL));
+            verify(projectStudyService, never()).getProjectStudyList(anyLong(), any(Pageable.class), anyLong(), any());
+        }
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 커서 기준 조회(모집 여부 X)")
+        void selectAllPostListByCursor_Success() throws Exception {
+
+            SliceResponse<Response> slice = new SliceResponse<>(new SliceImpl<>(Collections.emptyList()), Response::getPostId);
+
+            given(projectStudyService.getProjectStudyListByCursor(category.getId(), "", 10, user.getId(), ALL))
+                    .willReturn(slice);
+
+            mockMvc.perform(
+                            get("/projectstudy/list/all/4")
+                                    .param("cursor", ""))
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(projectStudyService).getProjectStudyListByCursor(anyLong(), any(), anyInt(), anyLong(), eq(ALL));
+        }
+
+        @Test
+        @WithMockCustomUser
+        @DisplayName("[성공] 커뮤니티 게시글 커서 기준 조회(모집 중)")
+        void selectOpenedPostListByCursor_Success() throws Exception {
+
+            SliceResponse<Response> slice = new SliceResponse<>(new SliceImpl<>(Collections.emptyList()), Response::getPostId);
+
+            given(projectStudyService.getProjectStudyListByCursor(category.getId(), "", 10, user.getId(), OPENED))
+                    .willReturn(slice);
+
+            mockMvc.perform(
+                            get("/projectstudy/list/opened/4")
+                                    .param("cursor", ""))
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(projectStudyService).getProjectStudyListByCursor(anyLong(), any(), anyInt(), anyLong(), eq(OPENED));
+        }
+
         @Test
         @WithMockCustomUser
         @DisplayName("[성공] 커뮤니티 게시글 좋아요 순 전체 조회(모집 여부 X)")
@@ -0,0 +1,95 @@
+package com.teamof4.mogu.repository;
+
+import com.teamof4.mogu.entity.Category;
+import com.teamof4.mogu.entity.Image;
+import com.teamof4.mogu.entity.Post;
+import com.teamof4.mogu.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:mogu-like;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LikeRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    User user;
+
+    Category category;
+
+    @BeforeEach
+    void beforeEach() {
+        Image image = em.persist(Image.builder().imageUrl("profile").build());
+        category = em.persist(new Category(null, "팀 프로젝트"));
+        user = em.persist(User.builder()
+                .image(image)
+                .email("mogu@mogu.com")
+                .name("김모구")
+                .nickname("모구")
+                .password("mogu1234!")
+                .isDeleted(false)
+                .isActivated(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("좋아요를 추가하면 1, 같은 게시글에 다시 추가하면 0을 반환한다")
+    void insertIgnoreOnce() {
+        Post post = savePost(false);
+
+        assertThat(likeRepository.insertIgnore(user.getId(), post.getId())).isEqualTo(1);
+        assertThat(likeRepository.insertIgnore(user.getId(), post.getId())).isZero();
+
+        assertThat(likeRepository.findAllLikedPostIds(user.getId())).containsExactly(post.getId());
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글에는 좋아요를 추가하지 않는다")
+    void insertIgnoreDeletedPost() {
+        Post post = savePost(true);
+
+        assertThat(likeRepository.insertIgnore(user.getId(), post.getId())).isZero();
+        assertThat(likeRepository.findAllLikedPostIds(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요를 취소하면 1, 이미 취소된 좋아요를 다시 취소하면 0을 반환한다")
+    void deleteOnce() {
+        Post post = savePost(false);
+        likeRepository.insertIgnore(user.getId(), post.getId());
+
+        assertThat(likeRepository.deleteByUserIdAndPostId(user.getId(), post.getId())).isEqualTo(1);
+        assertThat(likeRepository.deleteByUserIdAndPostId(user.getId(), post.getId())).isZero();
+    }
+
+    private Post savePost(boolean isDeleted) {
+        Post post = em.persist(Post.builder()
+                .user(user)
+                .category(category)
+                .title("제목입니다.")
+                .content("내용입니다.")
+                .isDeleted(isDeleted)
+                .build());
+        em.flush();
+        return post;
+    }
+}
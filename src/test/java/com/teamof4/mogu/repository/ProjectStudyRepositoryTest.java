@@ -0,0 +1,120 @@
+package com.teamof4.mogu.repository;
+
+import com.teamof4.mogu.dto.ProjectStudyDto;
+import com.teamof4.mogu.entity.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:mogu;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProjectStudyRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    ProjectStudyRepository projectStudyRepository;
+
+    Statistics statistics;
+
+    Category category;
+
+    Skill skill;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        category = em.persist(new Category(null, "프로젝트"));
+        skill = em.persist(new Skill(null, "Java"));
+    }
+
+    @Test
+    @DisplayName("게시글 수가 늘어나도 리스트 조회 쿼리 수는 일정하다")
+    void listStatementCountIsConstant() {
+        saveProjectStudies(2);
+        long fewRowsStatementCount = countStatementsForFirstPage();
+
+        saveProjectStudies(10);
+        long manyRowsStatementCount = countStatementsForFirstPage();
+
+        assertThat(manyRowsStatementCount).isLessThanOrEqualTo(fewRowsStatementCount);
+        assertThat(manyRowsStatementCount).isLessThanOrEqualTo(3);
+    }
+
+    private long countStatementsForFirstPage() {
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        Page<ProjectStudy> projectStudies = projectStudyRepository.findAll(category, PageRequest.of(0, 20));
+        projectStudies.forEach(projectStudy -> ProjectStudyDto.Response.builder()
+                .post(projectStudy.getPost())
+                .projectStudy(projectStudy)
+                .isLiked(false).build());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveProjectStudies(int count) {
+        for (int i = 0; i < count; i++) {
+            Image profileImage = em.persist(Image.builder().imageUrl("profile" + i).build());
+            Image mainImage = em.persist(Image.builder().imageUrl("main" + i).build());
+
+            User user = em.persist(User.builder()
+                    .image(profileImage)
+                    .email("mogu" + i + "@mogu.com")
+                    .name("김모구")
+                    .nickname("모구" + i)
+                    .password("mogu1234!")
+                    .isDeleted(false)
+                    .isActivated(true)
+                    .build());
+
+            Post post = em.persist(Post.builder()
+                    .user(user)
+                    .category(category)
+                    .title("제목입니다.")
+                    .content("내용입니다.")
+                    .build());
+
+            ProjectStudy projectStudy = em.persist(ProjectStudy.builder()
+                    .post(post)
+                    .image(mainImage)
+                    .preferredMethod("온라인")
+                    .region("해당없음")
+                    .period("6개월")
+                    .memberCount(6)
+                    .openStatus(true)
+                    .startAt(LocalDate.now())
+                    .build());
+
+            em.persist(PostSkill.builder()
+                    .projectStudy(projectStudy)
+                    .skill(skill).build());
+        }
+    }
+}
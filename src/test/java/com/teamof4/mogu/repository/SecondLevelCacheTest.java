@@ -0,0 +1,120 @@
+package com.teamof4.mogu.repository;
+
+import com.teamof4.mogu.entity.Category;
+import com.teamof4.mogu.entity.Image;
+import com.teamof4.mogu.entity.Post;
+import com.teamof4.mogu.entity.Skill;
+import com.teamof4.mogu.entity.User;
+import com.teamof4.mogu.entity.UserSkill;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:mogu-cache;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SecondLevelCacheTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    Statistics statistics;
+
+    User user;
+
+    Skill skill;
+
+    @BeforeEach
+    void beforeEach() {
+        SessionFactory sessionFactory = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+
+        Image image = em.persist(Image.builder().imageUrl("profile").build());
+        skill = em.persist(new Skill(null, "Java"));
+        user = em.persist(User.builder()
+                .image(image)
+                .email("mogu@mogu.com")
+                .name("김모구")
+                .nickname("모구")
+                .password("mogu1234!")
+                .isDeleted(false)
+                .isActivated(true)
+                .build());
+        em.persist(UserSkill.of(user, skill));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("회원과 프로필 이미지는 영속성 컨텍스트가 바뀌어도 쿼리 없이 2차 캐시에서 읽는다")
+    void userAndImageFromCache() {
+        em.find(User.class, user.getId()).getImage().getImageUrl();
+        em.clear();
+        statistics.clear();
+
+        User cached = em.find(User.class, user.getId());
+        assertThat(cached.getImage().getImageUrl()).isEqualTo("profile");
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("회원 기술 스택이 추가되면 캐시된 기술 스택 목록이 무효화된다")
+    void userSkillsEvictedOnInsert() {
+        assertThat(em.find(User.class, user.getId()).getUserSkills()).hasSize(1);
+        em.clear();
+
+        Skill spring = em.persist(new Skill(null, "Spring"));
+        em.persist(UserSkill.of(em.find(User.class, user.getId()), spring));
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(User.class, user.getId()).getUserSkills()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("좋아요를 추가해도 캐시된 회원 정보는 무효화되지 않는다")
+    void likeKeepsUserCache() {
+        Category category = em.persist(new Category(null, "팀 프로젝트"));
+        Post post = em.persist(Post.builder()
+                .user(em.find(User.class, user.getId()))
+                .category(category)
+                .title("제목입니다.")
+                .content("내용입니다.")
+                .isDeleted(false)
+                .build());
+        em.flush();
+        em.clear();
+        em.find(User.class, user.getId());
+        em.clear();
+
+        assertThat(likeRepository.insertIgnore(user.getId(), post.getId())).isEqualTo(1);
+        em.clear();
+        statistics.clear();
+
+        assertThat(em.find(User.class, user.getId()).getNickname()).isEqualTo("모구");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,59 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.dto.CorrectionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BkTreeTest {
+
+    private BkTree bkTree;
+
+    @BeforeEach
+    void setUp() {
+        bkTree = new BkTree();
+        bkTree.add("Spring", 10);
+        bkTree.add("String", 1);
+        bkTree.add("Swift", 3);
+        bkTree.add("리액트", 5);
+        bkTree.add("리덕스", 2);
+    }
+
+    @Test
+    @DisplayName("[성공] 편집 거리 안의 단어를 거리, 빈도 순으로 찾는다")
+    void searchWithinDistance() {
+        assertThat(texts(bkTree.search("sprng", 1, 10))).containsExactly("spring");
+        assertThat(texts(bkTree.search("sprng", 2, 10))).containsExactly("spring", "string");
+        assertThat(texts(bkTree.search("리엑트", 1, 10))).containsExactly("리액트");
+        assertThat(bkTree.search("sprng", 2, 0)).isEmpty();
+        assertThat(bkTree.search("sprng", 2, -1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 단어를 다시 추가하면 빈도가 더해진다")
+    void addSameTerm() {
+        bkTree.add("string", 20);
+
+        List<CorrectionDto> result = bkTree.search("strng", 2, 10);
+
+        assertThat(texts(result)).containsExactly("string", "spring");
+        assertThat(result.get(0).getWeight()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("[성공] 편집 거리")
+    void distance() {
+        assertThat(BkTree.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(BkTree.distance("", "abc")).isEqualTo(3);
+        assertThat(BkTree.distance("스프링", "스프링")).isZero();
+    }
+
+    private static List<String> texts(List<CorrectionDto> corrections) {
+        return corrections.stream().map(CorrectionDto::getText).collect(Collectors.toList());
+    }
+}
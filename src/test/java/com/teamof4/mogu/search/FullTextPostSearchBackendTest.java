@@ -0,0 +1,94 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.entity.Category;
+import com.teamof4.mogu.entity.User;
+import com.teamof4.mogu.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class FullTextPostSearchBackendTest extends MySqlFullTextTest {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    PostRepository postRepository;
+
+    Long categoryId;
+    Long otherCategoryId;
+    Long springId;
+    Long reactId;
+    Long fullStackId;
+    Long otherSpringId;
+
+    @BeforeEach
+    void beforeEach() {
+        inTransaction(() -> {
+            User user = persistUser();
+            Category category = em.persist(new Category(null, "프로젝트"));
+            Category otherCategory = em.persist(new Category(null, "스터디"));
+            categoryId = category.getId();
+            otherCategoryId = otherCategory.getId();
+
+            springId = persistPost(user, category, "스프링 백엔드 모집", "백엔드 개발자를 찾습니다", false).getId();
+            reactId = persistPost(user, category, "리액트 프론트엔드 모집", "프론트엔드 개발자를 찾습니다", false).getId();
+            fullStackId = persistPost(user, category, "스프링 리액트 풀스택", "스프링과 리액트를 함께 다룹니다", false).getId();
+            persistPost(user, category, "알고리즘 스터디", "주말에 온라인으로 만나요", false);
+            persistPost(user, category, "스프링 리액트 삭제", "삭제된 게시글입니다", true);
+            otherSpringId = persistPost(user, otherCategory, "스프링 스터디", "책을 같이 읽어요", false).getId();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] natural 모드는 단어 중 하나라도 포함한 게시글을 점수 순으로 찾는다")
+    void naturalMode() {
+        List<Long> postIds = backend("natural").search("스프링 리액트", categoryId, false, false, PAGE).getContent();
+
+        assertThat(postIds).containsExactlyInAnyOrder(springId, reactId, fullStackId);
+        assertThat(postIds.get(0)).isEqualTo(fullStackId);
+    }
+
+    @Test
+    @DisplayName("[성공] boolean 모드는 모든 단어를 포함한 게시글만 찾는다")
+    void booleanMode() {
+        assertThat(backend("boolean").search("스프링 리액트", categoryId, false, false, PAGE).getContent())
+                .containsExactly(fullStackId);
+    }
+
+    @Test
+    @DisplayName("[성공] 최신순이면 점수와 상관없이 최신 게시글부터 찾는다")
+    void recentFirst() {
+        assertThat(backend("natural").search("스프링 리액트", categoryId, false, true, PAGE).getContent())
+                .containsExactly(fullStackId, reactId, springId);
+        assertThat(backend("boolean").search("스프링", categoryId, false, true, PAGE).getContent())
+                .containsExactly(fullStackId, springId);
+    }
+
+    @Test
+    @DisplayName("[성공] 다른 카테고리와 삭제된 게시글은 찾지 않는다")
+    void filterCategoryAndDeleted() {
+        assertThat(backend("natural").search("스프링", otherCategoryId, false, false, PAGE).getContent())
+                .containsExactly(otherSpringId);
+        assertThat(backend("boolean").search("스프링 리액트", otherCategoryId, false, false, PAGE).getTotalElements())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 검색어가 비어 있으면 조회하지 않고 빈 페이지를 반환한다")
+    void blankKeyword() {
+        assertThat(backend("natural").search("  ", categoryId, false, false, PAGE).getTotalElements()).isZero();
+    }
+
+    private PostSearchBackend backend(String mode) {
+        return new FullTextPostSearchBackend(postRepository, mode);
+    }
+}
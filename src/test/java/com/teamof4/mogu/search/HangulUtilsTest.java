@@ -0,0 +1,36 @@
+package com.teamof4.mogu.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulUtilsTest {
+
+    @Test
+    @DisplayName("[성공] 한글 음절은 초성으로 바꾸고 나머지 문자는 그대로 둔다")
+    void toChoseong() {
+        assertThat(HangulUtils.toChoseong("스프링")).isEqualTo("ㅅㅍㄹ");
+        assertThat(HangulUtils.toChoseong("깃허브 Git 101")).isEqualTo("ㄱㅎㅂ Git 101");
+        assertThat(HangulUtils.toChoseong(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 정규화로 바뀐 첫소리 자모도 호환용 초성으로 바꾼다")
+    void toChoseongFromConjoiningJamo() {
+        String normalized = Normalizer.normalize("ㅅㅍㄹ", Normalizer.Form.NFKC);
+
+        assertThat(HangulUtils.containsChoseong(normalized)).isTrue();
+        assertThat(HangulUtils.toChoseong(normalized)).isEqualTo("ㅅㅍㄹ");
+    }
+
+    @Test
+    @DisplayName("[성공] 초성이 일부라도 섞여 있으면 초성 입력으로 본다")
+    void containsChoseong() {
+        assertThat(HangulUtils.containsChoseong("스ㅍ")).isTrue();
+        assertThat(HangulUtils.containsChoseong("스프링")).isFalse();
+        assertThat(HangulUtils.containsSyllable("Spring")).isFalse();
+    }
+}
@@ -0,0 +1,110 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.entity.Category;
+import com.teamof4.mogu.entity.Image;
+import com.teamof4.mogu.entity.Post;
+import com.teamof4.mogu.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.function.Supplier;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 검색 테스트의 공통 설정. H2 는 MATCH ... AGAINST 를 지원하지 않으므로
+ * Testcontainers 로 MySQL 을 띄운다. 하위 클래스에 @Testcontainers(disabledWithoutDocker = true) 를 붙여
+ * Docker 가 없는 환경에서는 건너뛴다.
+ *
+ * InnoDB FULLTEXT 인덱스는 커밋된 데이터만 검색하므로 테스트 트랜잭션을 쓰지 않고 테스트마다 데이터를 지운다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type=info"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class MySqlFullTextTest {
+
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.32");
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        // 컨텍스트를 공유하는 모든 테스트 클래스가 같은 컨테이너를 사용한다.
+        MYSQL.start();
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    /**
+     * FullTextPostSearchBackend 에 적힌 인덱스를 만든다. 스키마는 컨텍스트마다 한 번 만들어지므로 없을 때만 추가한다.
+     */
+    @BeforeEach
+    void createFullTextIndex() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = 'ft_post_title_content'",
+                Integer.class);
+        if (count == null || count == 0) {
+            jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX ft_post_title_content (title, content) " +
+                    "WITH PARSER ngram");
+        }
+    }
+
+    @AfterEach
+    void deleteAll() {
+        jdbcTemplate.execute("DELETE FROM post");
+        jdbcTemplate.execute("DELETE FROM user");
+        jdbcTemplate.execute("DELETE FROM image");
+        jdbcTemplate.execute("DELETE FROM category");
+    }
+
+    <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    User persistUser() {
+        Image image = em.persist(Image.builder().imageUrl("profile").build());
+        return em.persist(User.builder()
+                .image(image)
+                .email("mogu@mogu.com")
+                .name("김모구")
+                .nickname("모구")
+                .password("mogu1234!")
+                .isDeleted(false)
+                .isActivated(true)
+                .build());
+    }
+
+    Post persistPost(User user, Category category, String title, String content, boolean isDeleted) {
+        return em.persist(Post.builder()
+                .user(user)
+                .category(category)
+                .title(title)
+                .content(content)
+                .isDeleted(isDeleted)
+                .build());
+    }
+}
@@ -0,0 +1,112 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.entity.Category;
+import com.teamof4.mogu.entity.User;
+import com.teamof4.mogu.repository.PostRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LIKE 검색, 메모리 n-gram 색인 검색, MySQL FULLTEXT 검색(natural, boolean 모드)의 응답 시간을 비교한다.
+ * Docker 로 MySQL 을 띄우므로 직접 실행할 때만 동작한다. 결과는 로그로 남긴다.
+ * ./gradlew test --tests '*PostSearchBenchmarkTest' -Dmogu.benchmark=true
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "mogu.benchmark", matches = "true")
+class PostSearchBenchmarkTest extends MySqlFullTextTest {
+
+    private static final Logger log = LogManager.getLogger(PostSearchBenchmarkTest.class);
+
+    private static final int POST_COUNT = 20_000;
+    private static final int BATCH_SIZE = 1000;
+    private static final int REPEAT = 50;
+    private static final String[] WORDS = {
+            "스프링", "리액트", "자바", "코틀린", "프로젝트", "스터디", "백엔드", "프론트엔드", "모집", "개발자",
+            "데이터베이스", "알고리즘", "디자이너", "포트폴리오", "온라인", "오프라인", "주말", "평일", "초보", "경력"
+    };
+
+    @Autowired
+    PostRepository postRepository;
+
+    Category category;
+
+    @BeforeEach
+    void beforeEach() {
+        User user = inTransaction(() -> {
+            category = em.persist(new Category(null, "프로젝트"));
+            return persistUser();
+        });
+
+        // FULLTEXT 인덱스는 커밋할 때 반영되므로 나눠서 커밋한다.
+        for (int from = 0; from < POST_COUNT; from += BATCH_SIZE) {
+            int start = from;
+            inTransaction(() -> {
+                for (int i = start; i < start + BATCH_SIZE; i++) {
+                    persistPost(user, category,
+                            WORDS[i % WORDS.length] + " " + WORDS[(i * 7) % WORDS.length] + "합니다",
+                            WORDS[(i * 3) % WORDS.length] + "에 관심있는 분을 찾습니다. "
+                                    + WORDS[(i * 11) % WORDS.length] + " 경험이 있으면 좋아요.",
+                            false);
+                }
+                em.flush();
+                em.clear();
+                return null;
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("n-gram 색인, FULLTEXT 검색은 LIKE 검색과 같은 게시글을 찾는다")
+    void compareWithLike() {
+        PostSearchBackend like = new LikePostSearchBackend(postRepository);
+        PostSearchIndex ngram = new PostSearchIndex(postRepository);
+        ngram.load();
+        PostSearchBackend natural = new FullTextPostSearchBackend(postRepository, "natural");
+        PostSearchBackend booleanMode = new FullTextPostSearchBackend(postRepository, "boolean");
+
+        PageRequest pageable = PageRequest.of(0, 20);
+        long likeTotal = like.search("데이터베이스", category.getId(), false, false, pageable).getTotalElements();
+
+        assertThat(ngram.search("데이터베이스", category.getId(), false, false, pageable).getTotalElements())
+                .isEqualTo(likeTotal);
+        assertThat(booleanMode.search("데이터베이스", category.getId(), false, false, pageable).getTotalElements())
+                .isEqualTo(likeTotal);
+        // natural 모드는 n-gram 중 하나만 일치해도 찾으므로 LIKE 보다 많을 수 있다.
+        assertThat(natural.search("데이터베이스", category.getId(), false, false, pageable).getTotalElements())
+                .isGreaterThanOrEqualTo(likeTotal);
+
+        log.info("게시글 {}개, 검색 {}회 평균: LIKE {}ms, n-gram {}ms, FULLTEXT natural {}ms, FULLTEXT boolean {}ms",
+                POST_COUNT, REPEAT,
+                measure(() -> like.search("포트폴리오", category.getId(), false, false, pageable)),
+                measure(() -> ngram.search("포트폴리오", category.getId(), false, false, pageable)),
+                measure(() -> natural.search("포트폴리오", category.getId(), false, false, pageable)),
+                measure(() -> booleanMode.search("포트폴리오", category.getId(), false, false, pageable)));
+    }
+
+    /**
+     * 한 번 미리 실행한 뒤 REPEAT 번 검색한 평균 시간(ms)
+     */
+    private String measure(Supplier<Page<Long>> search) {
+        search.get();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            List<Long> ids = search.get().getContent();
+            assertThat(ids).isNotEmpty();
+        }
+        return String.format("%.2f", (System.nanoTime() - started) / REPEAT / 1_000_000.0);
+    }
+}
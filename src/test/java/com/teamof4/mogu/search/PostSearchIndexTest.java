@@ -0,0 +1,113 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostSearchIndexTest {
+
+    private static final Long PROJECT = 4L;
+    private static final Long STUDY = 5L;
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex(mock(PostRepository.class));
+    }
+
+    @Test
+    @DisplayName("[성공] 조사가 붙은 한글 단어도 부분 일치로 검색된다")
+    void searchKoreanPartialWord() {
+        postSearchIndex.index(1L, PROJECT, "사이드 프로젝트 모집", "스프링으로 백엔드를 개발합니다");
+        postSearchIndex.index(2L, PROJECT, "디자이너 구해요", "피그마를 사용합니다");
+
+        Page<Long> result = postSearchIndex.search("스프링", PROJECT, false, false, PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 초성으로 입력해도 제목이 검색된다")
+    void searchTitleByChoseong() {
+        postSearchIndex.index(1L, PROJECT, "스프링 스터디 모집", "백엔드 개발자를 찾습니다");
+        postSearchIndex.index(2L, PROJECT, "리액트 스터디", "프론트엔드 개발자를 찾습니다");
+
+        assertThat(postSearchIndex.search("ㅅㅍㄹ", PROJECT, false, false, PageRequest.of(0, 10))
+                .getContent()).containsExactly(1L);
+        assertThat(postSearchIndex.search("스ㅌㄷ", PROJECT, false, false, PageRequest.of(0, 10))
+                .getContent()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 제목에 포함된 게시글이 먼저, 관련도가 같으면 최신 게시글이 먼저 나온다")
+    void searchOrderedByRelevance() {
+        postSearchIndex.index(1L, PROJECT, "모집합니다", "리액트 개발자를 찾습니다");
+        postSearchIndex.index(2L, PROJECT, "리액트 스터디", "함께 공부해요");
+        postSearchIndex.index(3L, PROJECT, "모집합니다", "리액트 개발자를 찾습니다");
+
+        Page<Long> result = postSearchIndex.search("리액트", PROJECT, false, false, PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 최신 순으로 요청하면 관련도와 상관없이 최신 게시글이 먼저 나온다")
+    void searchOrderedByRecency() {
+        postSearchIndex.index(1L, PROJECT, "리액트 스터디", "함께 공부해요");
+        postSearchIndex.index(2L, PROJECT, "모집합니다", "리액트 개발자를 찾습니다");
+
+        Page<Long> result = postSearchIndex.search("리액트", PROJECT, false, true, PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 카테고리와 모집 여부로 걸러진다")
+    void searchFilteredByCategoryAndOpenStatus() {
+        postSearchIndex.index(1L, PROJECT, "자바 프로젝트", "");
+        postSearchIndex.index(2L, PROJECT, "자바 프로젝트", "");
+        postSearchIndex.index(3L, STUDY, "자바 스터디", "");
+        postSearchIndex.updateOpenStatus(1L, true);
+        postSearchIndex.updateOpenStatus(2L, false);
+
+        assertThat(postSearchIndex.search("자바", PROJECT, false, false, PageRequest.of(0, 10)).getContent())
+                .containsExactly(2L, 1L);
+        assertThat(postSearchIndex.search("자바", PROJECT, true, false, PageRequest.of(0, 10)).getContent())
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 수정/삭제된 게시글은 이전 내용으로 검색되지 않는다")
+    void searchAfterUpdateAndRemove() {
+        postSearchIndex.index(1L, PROJECT, "파이썬 스터디", "");
+        postSearchIndex.index(2L, PROJECT, "파이썬 프로젝트", "");
+        postSearchIndex.updateOpenStatus(1L, true);
+
+        postSearchIndex.index(1L, PROJECT, "코틀린 스터디", "");
+        postSearchIndex.remove(2L);
+
+        assertThat(postSearchIndex.search("파이썬", PROJECT, false, false, PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(postSearchIndex.search("코틀린", PROJECT, true, false, PageRequest.of(0, 10)).getContent())
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 페이지 크기만큼 잘라서 반환하고 전체 개수를 함께 반환한다")
+    void searchPaged() {
+        for (long postId = 1; postId <= 5; postId++) {
+            postSearchIndex.index(postId, PROJECT, "노드 프로젝트", "");
+        }
+
+        Page<Long> result = postSearchIndex.search("노드", PROJECT, false, false, PageRequest.of(1, 2));
+
+        assertThat(result.getContent()).containsExactly(3L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,59 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.dto.ProjectStudyDto.FacetResponse;
+import com.teamof4.mogu.repository.PostSkillRepository;
+import com.teamof4.mogu.repository.ProjectStudyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ProjectStudyFacetCounterTest {
+
+    private static final Long PROJECT = 4L;
+    private static final Long STUDY = 5L;
+    private static final Long JAVA = 1L;
+    private static final Long SPRING = 2L;
+
+    private ProjectStudyFacetCounter facetCounter;
+
+    @BeforeEach
+    void setUp() {
+        facetCounter = new ProjectStudyFacetCounter(mock(ProjectStudyRepository.class), mock(PostSkillRepository.class));
+
+        facetCounter.add(1L, PROJECT, "서울", "온라인", true, List.of(JAVA, SPRING));
+        facetCounter.add(2L, PROJECT, "서울", "오프라인", true, List.of(JAVA));
+        facetCounter.add(3L, STUDY, "부산", "온라인", false, List.of(SPRING));
+    }
+
+    @Test
+    @DisplayName("[성공] 카테고리 별로 항목마다 게시글 수를 센다")
+    void countByCategory() {
+        FacetResponse facets = facetCounter.getFacets(PROJECT);
+
+        assertThat(facets.getRegion()).containsEntry("서울", 2L).doesNotContainKey("부산");
+        assertThat(facets.getPreferredMethod()).containsEntry("온라인", 1L).containsEntry("오프라인", 1L);
+        assertThat(facets.getSkill()).containsEntry(JAVA, 2L).containsEntry(SPRING, 1L);
+        assertThat(facets.getOpenedCount()).isEqualTo(2);
+        assertThat(facets.getClosedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 수정/모집 마감/삭제 시 이전 값을 빼고 새 값을 더한다")
+    void updateAndRemove() {
+        facetCounter.update(1L, "경기", "온라인", false);
+        facetCounter.remove(2L);
+
+        FacetResponse facets = facetCounter.getFacets(PROJECT);
+
+        assertThat(facets.getRegion()).containsOnlyKeys("경기");
+        assertThat(facets.getPreferredMethod()).containsOnlyKeys("온라인");
+        assertThat(facets.getSkill()).containsEntry(JAVA, 1L).containsEntry(SPRING, 1L);
+        assertThat(facets.getOpenedCount()).isZero();
+        assertThat(facets.getClosedCount()).isEqualTo(1);
+    }
+}
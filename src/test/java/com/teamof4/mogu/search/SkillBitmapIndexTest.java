@@ -0,0 +1,84 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.constants.SkillMatch;
+import com.teamof4.mogu.repository.PostSkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SkillBitmapIndexTest {
+
+    private static final Long PROJECT = 4L;
+    private static final Long STUDY = 5L;
+    private static final Long SPRING = 1L;
+    private static final Long REACT = 2L;
+    private static final Long JAVA = 3L;
+
+    private SkillBitmapIndex skillBitmapIndex;
+
+    @BeforeEach
+    void setUp() {
+        skillBitmapIndex = new SkillBitmapIndex(mock(PostSkillRepository.class));
+
+        skillBitmapIndex.add(1L, PROJECT, true, List.of(SPRING, REACT));
+        skillBitmapIndex.add(2L, PROJECT, false, List.of(SPRING));
+        skillBitmapIndex.add(3L, PROJECT, true, List.of(REACT, JAVA));
+        skillBitmapIndex.add(4L, STUDY, true, List.of(SPRING, REACT));
+    }
+
+    @Test
+    @DisplayName("[성공] AND 조건은 모든 기술 스택을 사용하는 게시글만 최신 순으로 찾는다")
+    void findPostIdsWithAllSkills() {
+        Page<Long> result = skillBitmapIndex.findPostIds(PROJECT, false, List.of(SPRING, REACT),
+                SkillMatch.AND, PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] OR 조건은 하나라도 사용하는 게시글을 찾고 모집 여부로 거른다")
+    void findPostIdsWithAnySkill() {
+        assertThat(skillBitmapIndex.findPostIds(PROJECT, false, List.of(SPRING, JAVA),
+                SkillMatch.OR, PageRequest.of(0, 10)).getContent()).containsExactly(3L, 2L, 1L);
+        assertThat(skillBitmapIndex.findPostIds(PROJECT, true, List.of(SPRING, JAVA),
+                SkillMatch.OR, PageRequest.of(0, 10)).getContent()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 페이지 크기만큼 잘라서 반환하고 전체 개수를 함께 반환한다")
+    void findPostIdsPaged() {
+        Page<Long> result = skillBitmapIndex.findPostIds(PROJECT, false, List.of(SPRING, REACT),
+                SkillMatch.OR, PageRequest.of(1, 2));
+
+        assertThat(result.getContent()).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 검색 결과 순서를 유지한 채로 거른다")
+    void filterKeepsOrder() {
+        List<Long> result = skillBitmapIndex.filter(List.of(1L, 3L, 2L, 4L), PROJECT, false,
+                List.of(REACT), SkillMatch.AND);
+
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("[성공] 모집 마감/삭제된 게시글은 반영된다")
+    void updateAndRemove() {
+        skillBitmapIndex.updateOpenStatus(1L, false);
+        skillBitmapIndex.remove(3L);
+
+        assertThat(skillBitmapIndex.findPostIds(PROJECT, true, List.of(REACT),
+                SkillMatch.AND, PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(skillBitmapIndex.findPostIds(PROJECT, false, List.of(REACT),
+                SkillMatch.AND, PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+    }
+}
@@ -0,0 +1,55 @@
+package com.teamof4.mogu.search;
+
+import com.teamof4.mogu.constants.SuggestType;
+import com.teamof4.mogu.dto.SuggestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestTrieTest {
+
+    @Test
+    @DisplayName("[성공] 접두어로 시작하는 결과를 인기도 순으로 찾는다")
+    void suggestByWeight() {
+        SuggestTrie trie = new SuggestTrie.Builder(10)
+                .add("Spring", suggestion(SuggestType.SKILL, 1L, "Spring", 5))
+                .add("Spring Boot", suggestion(SuggestType.SKILL, 2L, "Spring Boot", 10))
+                .add("Svelte", suggestion(SuggestType.SKILL, 3L, "Svelte", 1))
+                .add("React", suggestion(SuggestType.SKILL, 4L, "React", 100))
+                .build();
+
+        assertThat(texts(trie.suggest("sp", 10))).containsExactly("Spring Boot", "Spring");
+        assertThat(texts(trie.suggest(" S ", 10))).containsExactly("Spring Boot", "Spring", "Svelte");
+        assertThat(trie.suggest("vue", 10)).isEmpty();
+        assertThat(trie.suggest("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 키로 등록된 같은 결과는 한 번만 나오고 최대 개수를 넘지 않는다")
+    void suggestDeduplicatedAndLimited() {
+        SuggestDto title = suggestion(SuggestType.TITLE, 1L, "스프링 스터디 모집", 30);
+        SuggestTrie trie = new SuggestTrie.Builder(2)
+                .add("스프링 스터디 모집", title)
+                .add("스터디 모집", title)
+                .add("스터디원 구해요", suggestion(SuggestType.TITLE, 2L, "스터디원 구해요", 20))
+                .add("스터디 같이 해요", suggestion(SuggestType.TITLE, 3L, "스터디 같이 해요", 10))
+                .build();
+
+        assertThat(texts(trie.suggest("스", 10))).containsExactly("스프링 스터디 모집", "스터디원 구해요");
+        assertThat(texts(trie.suggest("스터디", 1))).containsExactly("스프링 스터디 모집");
+        assertThat(trie.suggest("스터디", 0)).isEmpty();
+        assertThat(trie.suggest("스터디", -1)).isEmpty();
+    }
+
+    private static SuggestDto suggestion(SuggestType type, Long id, String text, long weight) {
+        return SuggestDto.builder().type(type).id(id).text(text).weight(weight).build();
+    }
+
+    private static List<String> texts(List<SuggestDto> suggestions) {
+        return suggestions.stream().map(SuggestDto::getText).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,65 @@
+package com.teamof4.mogu.security;
+
+import com.teamof4.mogu.dto.CacheStatsDto;
+import com.teamof4.mogu.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenProviderTest {
+
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(100, 600);
+    }
+
+    @Test
+    @DisplayName("[성공] 한 번 검증한 토큰은 다시 검증하지 않고 캐시에서 유저 ID를 찾는다")
+    void verifiedTokenCacheHit() {
+        String token = tokenProvider.create(User.builder().id(7L).build());
+
+        assertThat(tokenProvider.validateAndGetUserId(token)).isEqualTo("7");
+        assertThat(tokenProvider.validateAndGetUserId(token)).isEqualTo("7");
+
+        CacheStatsDto statistics = tokenProvider.getVerifiedTokenStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getPutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] 서명이 변조된 토큰은 검증한 토큰과 문자열이 달라 캐시를 거치지 않고 실패한다")
+    void tamperedTokenIsRejected() {
+        String token = tokenProvider.create(User.builder().id(7L).build());
+        tokenProvider.validateAndGetUserId(token);
+
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1)
+                + (signature.charAt(0) == 'A' ? 'B' : 'A') + signature.substring(1);
+
+        assertThatThrownBy(() -> tokenProvider.validateAndGetUserId(tampered))
+                .isInstanceOf(SignatureException.class);
+        assertThat(tokenProvider.getVerifiedTokenStatistics().getPutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] 다른 키로 서명한 토큰은 실패한다")
+    void tokenFromOtherKeyIsRejected() {
+        String token = Jwts.builder()
+                .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS256))
+                .setSubject("7")
+                .compact();
+
+        assertThatThrownBy(() -> tokenProvider.validateAndGetUserId(token))
+                .isInstanceOf(SignatureException.class);
+    }
+}
@@ -0,0 +1,137 @@
+package com.teamof4.mogu.service;
+
+import com.teamof4.mogu.cache.LikedPostCache;
+import com.teamof4.mogu.cache.PostVersionRegistry;
+import com.teamof4.mogu.dto.LikeDto;
+import com.teamof4.mogu.entity.User;
+import com.teamof4.mogu.exception.post.PostNotFoundException;
+import com.teamof4.mogu.exception.user.UserNotFoundException;
+import com.teamof4.mogu.repository.LikeRepository;
+import com.teamof4.mogu.repository.PostRepository;
+import com.teamof4.mogu.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceLikeTest {
+
+    private static final Long POST_ID = 10L;
+    private static final Long USER_ID = 1L;
+    private static final Long CATEGORY_ID = 4L;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    LikeRepository likeRepository;
+
+    @Mock
+    PostVersionRegistry postVersionRegistry;
+
+    @Mock
+    LikedPostCache likedPostCache;
+
+    @InjectMocks
+    PostService postService;
+
+    @Test
+    @DisplayName("[성공] 좋아요를 누르지 않은 게시글이면 좋아요를 추가하고 좋아요 수를 올린다")
+    void like() {
+        givenUser();
+        given(likeRepository.deleteByUserIdAndPostId(USER_ID, POST_ID)).willReturn(0);
+        given(likeRepository.insertIgnore(USER_ID, POST_ID)).willReturn(1);
+        givenChangedPost(1);
+
+        LikeDto result = postService.likeProcess(POST_ID, USER_ID);
+
+        assertThat(result.isLikeStatus()).isTrue();
+        assertThat(result.getCount()).isEqualTo(1);
+        verify(postRepository).updateLikeCount(POST_ID, 1);
+        verify(postVersionRegistry).postChanged(POST_ID, CATEGORY_ID);
+        verify(likedPostCache).likeChanged(USER_ID);
+    }
+
+    @Test
+    @DisplayName("[성공] 이미 좋아요를 누른 게시글이면 좋아요를 취소하고 좋아요 수를 내린다")
+    void unlike() {
+        givenUser();
+        given(likeRepository.deleteByUserIdAndPostId(USER_ID, POST_ID)).willReturn(1);
+        givenChangedPost(0);
+
+        LikeDto result = postService.likeProcess(POST_ID, USER_ID);
+
+        assertThat(result.isLikeStatus()).isFalse();
+        assertThat(result.getCount()).isZero();
+        verify(postRepository).updateLikeCount(POST_ID, -1);
+        verify(likeRepository, never()).insertIgnore(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[성공] 동시에 들어온 다른 요청이 먼저 좋아요를 추가했으면 좋아요 수를 다시 올리지 않는다")
+    void doubleClick() {
+        givenUser();
+        given(likeRepository.deleteByUserIdAndPostId(USER_ID, POST_ID)).willReturn(0);
+        given(likeRepository.insertIgnore(USER_ID, POST_ID)).willReturn(0);
+        given(postRepository.existsById(POST_ID)).willReturn(true);
+        givenChangedPost(1);
+
+        LikeDto result = postService.likeProcess(POST_ID, USER_ID);
+
+        assertThat(result.isLikeStatus()).isTrue();
+        assertThat(result.getCount()).isEqualTo(1);
+        verify(postRepository, never()).updateLikeCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("[실패] 삭제된 게시글에 좋아요를 누를 때")
+    void likeDeletedPost_Fail() {
+        givenUser();
+        given(likeRepository.deleteByUserIdAndPostId(USER_ID, POST_ID)).willReturn(0);
+        given(likeRepository.insertIgnore(USER_ID, POST_ID)).willReturn(0);
+        given(postRepository.existsById(POST_ID)).willReturn(false);
+
+        assertThatThrownBy(() -> postService.likeProcess(POST_ID, USER_ID))
+                .isInstanceOf(PostNotFoundException.class);
+
+        verify(postRepository, never()).updateLikeCount(anyLong(), anyInt());
+        verify(postVersionRegistry, never()).postChanged(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[실패] 존재하지 않는 회원이 좋아요를 누를 때")
+    void likeWithMissingUser_Fail() {
+        given(userRepository.findById(USER_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> postService.likeProcess(POST_ID, USER_ID))
+                .isInstanceOf(UserNotFoundException.class);
+
+        verify(likeRepository, never()).insertIgnore(anyLong(), anyLong());
+        verify(postVersionRegistry, never()).postChanged(anyLong(), anyLong());
+    }
+
+    private void givenUser() {
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(User.builder().id(USER_ID).build()));
+    }
+
+    private void givenChangedPost(int likeCount) {
+        given(postRepository.findCategoryIdById(POST_ID)).willReturn(CATEGORY_ID);
+        given(postRepository.findLikeCountById(POST_ID)).willReturn(likeCount);
+    }
+}
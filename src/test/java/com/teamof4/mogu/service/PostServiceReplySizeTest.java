@@ -0,0 +1,75 @@
+package com.teamof4.mogu.service;
+
+import com.teamof4.mogu.entity.Post;
+import com.teamof4.mogu.exception.post.PostNotFoundException;
+import com.teamof4.mogu.repository.PostRepository;
+import com.teamof4.mogu.repository.ReplyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceReplySizeTest {
+
+    private static final Long POST_ID = 10L;
+    private static final Long REPLY_ID = 20L;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    ReplyRepository replyRepository;
+
+    @InjectMocks
+    PostService postService;
+
+    @Test
+    @DisplayName("[성공] replySize 는 1 ~ MAX_REPLY_SIZE 로 맞추고 null 은 그대로 둔다")
+    void clampReplySize() {
+        assertThat(PostService.clampReplySize(null)).isNull();
+        assertThat(PostService.clampReplySize(0)).isEqualTo(1);
+        assertThat(PostService.clampReplySize(-5)).isEqualTo(1);
+        assertThat(PostService.clampReplySize(20)).isEqualTo(20);
+        assertThat(PostService.clampReplySize(Integer.MAX_VALUE)).isEqualTo(PostService.MAX_REPLY_SIZE);
+    }
+
+    @Test
+    @DisplayName("[성공] 댓글 페이지 크기도 MAX_REPLY_SIZE 로 맞춘다")
+    void clampReplyPageSize() {
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(mock(Post.class)));
+        given(replyRepository.findSuperRepliesByCursor(POST_ID, 0L, PageRequest.of(0, PostService.MAX_REPLY_SIZE)))
+                .willReturn(new SliceImpl<>(Collections.emptyList()));
+        given(replyRepository.findChildRepliesByCursor(REPLY_ID, 0L, PageRequest.of(0, 1)))
+                .willReturn(new SliceImpl<>(Collections.emptyList()));
+
+        assertThat(postService.getReplyPage(POST_ID, null, 2000).getContent()).isEmpty();
+        assertThat(postService.getChildReplyPage(REPLY_ID, null, -1).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[실패] 없거나 삭제된 게시글의 댓글 페이지는 PostNotFoundException 이 발생한다")
+    void replyPageOfMissingPost_Fail() {
+        given(postRepository.findById(POST_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> postService.getReplyPage(POST_ID, null, 10))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(replyRepository, never()).findSuperRepliesByCursor(anyLong(), anyLong(), any());
+    }
+}
@@ -0,0 +1,73 @@
+package com.teamof4.mogu.service;
+
+import com.teamof4.mogu.repository.PostRepository;
+import com.teamof4.mogu.service.ViewCountService.ViewMark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ViewCountServiceTest {
+
+    private static final Long POST_ID = 10L;
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+
+    @Test
+    @DisplayName("[성공] 모두 반영되고 조회가 없던 게시글의 카운터는 flush 후 지운다")
+    void evictIdleCounter() {
+        ViewCountService viewCountService = new ViewCountService(postRepository, 0);
+
+        viewCountService.increase(POST_ID);
+        viewCountService.increase(POST_ID);
+        viewCountService.flush();
+        verify(postRepository).updateViewCount(POST_ID, 2);
+        assertThat(viewCountService.getCounterCount()).isEqualTo(1);
+
+        viewCountService.flush();
+        assertThat(viewCountService.getCounterCount()).isZero();
+        assertThat(viewCountService.getPendingCount(POST_ID, viewCountService.getViewMark(POST_ID))).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 최근에 반영된 카운터는 유휴 시간이 지나기 전까지 유지한다")
+    void keepRecentCounter() {
+        ViewCountService viewCountService = new ViewCountService(postRepository, 600);
+
+        viewCountService.increase(POST_ID);
+        viewCountService.flush();
+        viewCountService.flush();
+
+        assertThat(viewCountService.getCounterCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 기록 이후에 늘어난 조회수는 DB에 반영된 뒤에도 포함한다")
+    void pendingSinceMark() {
+        ViewCountService viewCountService = new ViewCountService(postRepository, 600);
+        viewCountService.increase(POST_ID);
+        ViewMark mark = viewCountService.getViewMark(POST_ID);
+
+        viewCountService.increase(POST_ID);
+        viewCountService.flush();
+        viewCountService.increase(POST_ID);
+
+        assertThat(viewCountService.getPendingCount(POST_ID, mark)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 카운터가 지워진 뒤 새로 쌓인 조회수는 모두 기록 이후의 조회수다")
+    void pendingAfterEviction() {
+        ViewCountService viewCountService = new ViewCountService(postRepository, 0);
+        viewCountService.increase(POST_ID);
+        viewCountService.flush();
+        ViewMark mark = viewCountService.getViewMark(POST_ID);
+        viewCountService.flush();
+
+        viewCountService.increase(POST_ID);
+
+        assertThat(viewCountService.getPendingCount(POST_ID, mark)).isEqualTo(1);
+    }
+}